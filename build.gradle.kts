@@ -8,6 +8,7 @@ plugins {
     id("net.minecraftforge.gradle") version "[6.0,6.2)"
     id("org.parchmentmc.librarian.forgegradle") version "1.+"
     id("org.spongepowered.mixin") version "0.7.+"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 // Allows local configuration for a dev environment that importantly, isn't present on a build server.
@@ -29,6 +30,7 @@ val minecraftVersion: String = "1.20.1"
 // In future we probably want to track NeoForge versions, especially post-1.20 breaking change window
 val forgeVersion: String = "47.1.3"
 val mixinVersion: String = "0.8.5"
+val jmhCoreVersion: String = "1.37"
 
 // Dependency versions
 val jeiVersion: String = "15.2.0.21"
@@ -192,6 +194,19 @@ mixin {
     add(sourceSets.main.get(), "$modId.refmap.json")
 }
 
+// Benchmarks, in src/jmh/java. Run with `./gradlew jmh`, results are written to build/results/jmh/
+// Use -PjmhIncludes=<regex> to select a subset of benchmarks
+jmh {
+    jmhVersion.set(jmhCoreVersion)
+    includeTests.set(true) // For TestHelper bootstrapping
+    includes.set(listOfNotNull(project.findProperty("jmhIncludes") as String?))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.set(listOf("gc")) // Reports allocation rate, as gc.alloc.rate.norm, in bytes per operation
+    resultFormat.set("JSON")
+}
+
 tasks {
 
     processResources {
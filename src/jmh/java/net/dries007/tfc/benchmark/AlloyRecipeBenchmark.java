@@ -0,0 +1,137 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.common.recipes.AlloyRecipe;
+import net.dries007.tfc.util.Alloy;
+import net.dries007.tfc.util.DataManager;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.Metal;
+
+/**
+ * Benchmarks finding the alloy recipe for the contents of a crucible, with a pack defining a large number of alloys. This compares the indexed lookup,
+ * {@link AlloyRecipe#get(Alloy)}, against testing every recipe in turn, which is equivalent to querying the recipe manager.
+ * <p>
+ * Each invocation matches {@link #ALLOYS} alloys, and the scores are reported in lookups / microsecond. Half of the alloys match a recipe, and half
+ * have the metals of a recipe, but outside its ranges.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(AlloyRecipeBenchmark.ALLOYS)
+@State(Scope.Benchmark)
+public class AlloyRecipeBenchmark
+{
+    public static final int ALLOYS = 64;
+    public static final int METALS = 32;
+
+    @Param({"16", "128", "512"})
+    public int recipeCount;
+
+    private List<AlloyRecipe> recipes;
+    private Alloy[] alloys;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        TestHelper.bootstrap();
+
+        final Random random = new Random(1798237841231L);
+        final Metal[] metals = new Metal[METALS];
+        for (int i = 0; i < METALS; i++)
+        {
+            metals[i] = new Metal(Helpers.identifier("metal_" + i));
+        }
+
+        recipes = new ArrayList<>();
+        for (int i = 0; i < recipeCount; i++)
+        {
+            // Between two and four distinct inputs, each in a range which is 10% wide, with the first taking up the remainder
+            final int inputCount = 2 + random.nextInt(3);
+            final Map<DataManager.Reference<Metal>, AlloyRecipe.Range> ranges = new IdentityHashMap<>();
+            final List<Metal> inputs = new ArrayList<>();
+            while (inputs.size() < inputCount)
+            {
+                final Metal metal = metals[random.nextInt(METALS)];
+                if (!inputs.contains(metal))
+                {
+                    inputs.add(metal);
+                }
+            }
+            for (int j = 0; j < inputCount; j++)
+            {
+                final double min = j == 0 ? 0.5 : 0.05;
+                final double max = j == 0 ? 1 : 0.15;
+                ranges.put(DataManager.bound(inputs.get(j).getId(), inputs.get(j)), new AlloyRecipe.Range(min, max));
+            }
+            final Metal result = new Metal(Helpers.identifier("alloy_" + i));
+            recipes.add(new AlloyRecipe(Helpers.identifier("alloy_" + i), ranges, DataManager.bound(result.getId(), result)));
+        }
+        AlloyRecipe.CACHE.reload(recipes);
+
+        alloys = new Alloy[ALLOYS];
+        for (int i = 0; i < ALLOYS; i++)
+        {
+            final AlloyRecipe recipe = recipes.get(random.nextInt(recipes.size()));
+            final boolean matches = (i & 1) == 0;
+            final Alloy alloy = new Alloy(10_000);
+            for (Map.Entry<DataManager.Reference<Metal>, AlloyRecipe.Range> entry : recipe.getRanges().entrySet())
+            {
+                // Matching alloys are within every range, otherwise the minor metals are above their maximum
+                final boolean major = entry.getValue().min() >= 0.5;
+                final int amount = major ? (matches ? 6000 : 3000) : 1000;
+                alloy.add(entry.getKey().get(), amount, false);
+            }
+            alloys[i] = alloy;
+        }
+    }
+
+    @Benchmark
+    public void indexed(Blackhole blackhole)
+    {
+        for (Alloy alloy : alloys)
+        {
+            blackhole.consume(AlloyRecipe.get(alloy));
+        }
+    }
+
+    @Benchmark
+    public void linear(Blackhole blackhole)
+    {
+        for (Alloy alloy : alloys)
+        {
+            AlloyRecipe match = null;
+            for (AlloyRecipe recipe : recipes)
+            {
+                if (alloy.matches(recipe))
+                {
+                    match = recipe;
+                    break;
+                }
+            }
+            blackhole.consume(match);
+        }
+    }
+}
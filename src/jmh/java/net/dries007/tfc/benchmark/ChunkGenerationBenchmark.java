@@ -0,0 +1,118 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.world.BiomeWeights;
+import net.dries007.tfc.world.ChunkBiomeSampler;
+import net.dries007.tfc.world.ChunkHeightFiller;
+import net.dries007.tfc.world.NoopClimateSampler;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+
+/**
+ * Benchmarks for individual stages of the chunk generation pipeline. Each invocation processes a {@link WorldGenState#CHUNKS_WIDTH} square of adjacent, previously
+ * unseen, chunks, and the scores are reported in chunks / second. Run with the {@code gc} profiler (the default) to obtain allocation rates per chunk.
+ * <p>
+ * {@link net.dries007.tfc.world.ChunkNoiseFiller#fillFromNoise()} and {@link net.dries007.tfc.world.surface.SurfaceManager#buildSurface} are not covered here, as
+ * they place TFC's registered blocks and fluids, which are only available once the mod has been loaded, and their density functions come from data packs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(WorldGenState.CHUNKS)
+public class ChunkGenerationBenchmark
+{
+    @Benchmark
+    public void sampleBiomes(WorldGenState state, Blackhole blackhole)
+    {
+        final ChunkPos origin = state.nextChunkArea();
+        for (int x = 0; x < WorldGenState.CHUNKS_WIDTH; x++)
+        {
+            for (int z = 0; z < WorldGenState.CHUNKS_WIDTH; z++)
+            {
+                final BiomeWeights[] weights = ChunkBiomeSampler.sampleBiomes(new ChunkPos(origin.x + x, origin.z + z), state::sampleBiomeNoRiver);
+                blackhole.consume(weights);
+            }
+        }
+    }
+
+    @Benchmark
+    public void sampleBiomesCached(WorldGenState state, Blackhole blackhole)
+    {
+        final ChunkPos origin = state.nextChunkArea();
+        for (int x = 0; x < WorldGenState.CHUNKS_WIDTH; x++)
+        {
+            for (int z = 0; z < WorldGenState.CHUNKS_WIDTH; z++)
+            {
+                final BiomeWeights[] weights = state.biomeSampleCache.sampleBiomes(new ChunkPos(origin.x + x, origin.z + z));
+                blackhole.consume(weights);
+            }
+        }
+    }
+
+    /**
+     * Equivalent of {@link net.dries007.tfc.world.TFCChunkGenerator#createBiomes}, filling the biomes of a new synthetic chunk from the biome source.
+     */
+    @Benchmark
+    public void fillBiomes(WorldGenState state, Blackhole blackhole)
+    {
+        final ChunkPos origin = state.nextChunkArea();
+        for (int x = 0; x < WorldGenState.CHUNKS_WIDTH; x++)
+        {
+            for (int z = 0; z < WorldGenState.CHUNKS_WIDTH; z++)
+            {
+                final ProtoChunk chunk = state.createChunk(new ChunkPos(origin.x + x, origin.z + z));
+                chunk.fillBiomesFromNoise((quartX, quartY, quartZ, sampler) -> state.biomeSource.getBiome(quartX, quartZ), NoopClimateSampler.INSTANCE);
+                blackhole.consume(chunk);
+            }
+        }
+    }
+
+    @Benchmark
+    public void sampleHeight(WorldGenState state, Blackhole blackhole)
+    {
+        final ChunkPos origin = state.nextChunkArea();
+        for (int x = 0; x < WorldGenState.CHUNKS_WIDTH; x++)
+        {
+            for (int z = 0; z < WorldGenState.CHUNKS_WIDTH; z++)
+            {
+                final ChunkPos pos = new ChunkPos(origin.x + x, origin.z + z);
+                final ChunkHeightFiller filler = state.createHeightFiller(pos);
+                for (int localX = 0; localX < 16; localX++)
+                {
+                    for (int localZ = 0; localZ < 16; localZ++)
+                    {
+                        blackhole.consume(filler.sampleHeight(pos.getMinBlockX() + localX, pos.getMinBlockZ() + localZ));
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateChunkData(WorldGenState state, Blackhole blackhole)
+    {
+        final ChunkPos origin = state.nextChunkArea();
+        for (int x = 0; x < WorldGenState.CHUNKS_WIDTH; x++)
+        {
+            for (int z = 0; z < WorldGenState.CHUNKS_WIDTH; z++)
+            {
+                final ChunkData data = new ChunkData(state.chunkDataGenerator, new ChunkPos(origin.x + x, origin.z + z));
+                state.chunkDataGenerator.generate(data);
+                blackhole.consume(data);
+            }
+        }
+    }
+}
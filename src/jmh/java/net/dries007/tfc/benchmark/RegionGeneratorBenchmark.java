@@ -0,0 +1,51 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.Units;
+
+/**
+ * Benchmarks building a single, uncached, {@link Region}, including all region tasks. Each invocation queries a region one cell further along the x axis, so
+ * no region is ever queried twice, and each is built from scratch. The generator has no region storage, so regions are never loaded from disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class RegionGeneratorBenchmark
+{
+    private RegionGenerator generator;
+    private int nextCell;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        TestHelper.bootstrap();
+        generator = new RegionGenerator(WorldGenState.settings(), new XoroshiroRandomSource(WorldGenState.SEED));
+    }
+
+    @Benchmark
+    public void buildRegion(Blackhole blackhole)
+    {
+        final int gridX = Units.cellToGrid(nextCell++);
+        blackhole.consume(generator.getOrCreateRegion(gridX, 0));
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.benchmark;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import com.mojang.serialization.Lifecycle;
+import net.minecraft.core.Holder;
+import net.minecraft.core.MappedRegistry;
+import net.minecraft.core.QuartPos;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeGenerationSettings;
+import net.minecraft.world.level.biome.BiomeSpecialEffects;
+import net.minecraft.world.level.biome.Biomes;
+import net.minecraft.world.level.biome.MobSpawnSettings;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.BiomeNoiseSampler;
+import net.dries007.tfc.world.BiomeSampleCache;
+import net.dries007.tfc.world.ChunkBiomeSampler;
+import net.dries007.tfc.world.ChunkHeightFiller;
+import net.dries007.tfc.world.biome.BiomeExtension;
+import net.dries007.tfc.world.biome.BiomeSourceExtension;
+import net.dries007.tfc.world.biome.TFCBiomes;
+import net.dries007.tfc.world.chunkdata.RegionChunkDataGenerator;
+import net.dries007.tfc.world.layer.TFCLayers;
+import net.dries007.tfc.world.layer.framework.ConcurrentArea;
+import net.dries007.tfc.world.noise.Noise2D;
+import net.dries007.tfc.world.noise.OpenSimplex2D;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionPartition;
+import net.dries007.tfc.world.region.Units;
+import net.dries007.tfc.world.river.RiverBlendType;
+import net.dries007.tfc.world.river.RiverNoiseSampler;
+import net.dries007.tfc.world.settings.RockLayerSettings;
+import net.dries007.tfc.world.settings.RockSettings;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * Shared world generation state for benchmarks. This mirrors the initialization done in {@link net.dries007.tfc.world.TFCChunkGenerator#initRandomState}, but
+ * with a fixed seed, default settings, and a single synthetic rock, so it does not require a server or any data packs to be loaded.
+ * <p>
+ * Biomes are provided by a minimal registry, containing an empty biome for each TFC biome, which is sufficient to create synthetic {@link ProtoChunk}s
+ * and resolve biomes from the biome source.
+ */
+@State(Scope.Benchmark)
+public class WorldGenState
+{
+    public static final long SEED = 1798237841231L;
+    public static final int SEA_LEVEL = 63;
+    public static final LevelHeightAccessor HEIGHT = new LevelHeightAccessor()
+    {
+        @Override
+        public int getHeight()
+        {
+            return 384;
+        }
+
+        @Override
+        public int getMinBuildHeight()
+        {
+            return -64;
+        }
+    };
+
+    /** The number of chunks in each axis, sampled per benchmark invocation. Chunks are adjacent, as they would be during pre-generation. */
+    public static final int CHUNKS_WIDTH = 4;
+    public static final int CHUNKS = CHUNKS_WIDTH * CHUNKS_WIDTH;
+
+    /** The number of chunk areas which are cycled through. Regions and partitions covering all of them are generated during setup. */
+    public static final int CHUNK_AREAS = 1024;
+
+    public static Settings settings()
+    {
+        return new Settings(false, 4000, 0, 0, 20_000, 0, 20_000, 0, rockLayerSettings(), 0.5f, 0.5f);
+    }
+
+    public static RockLayerSettings rockLayerSettings()
+    {
+        return new RockLayerSettings.Data(
+            Map.of("rock", new RockSettings(Blocks.STONE, Blocks.DEEPSLATE, null, null, null, null, Optional.empty(), Optional.empty(), Optional.empty())),
+            List.of("rock"),
+            List.of(new RockLayerSettings.LayerData("base", Map.of("rock", "bottom"))),
+            List.of("base"),
+            List.of("base"),
+            List.of("base"),
+            List.of("base")
+        ).parse();
+    }
+
+    /**
+     * @return A frozen biome registry with an empty biome for every TFC biome, plus {@link Biomes#PLAINS}, which {@link ProtoChunk} uses as a default.
+     */
+    public static Registry<Biome> biomeRegistry()
+    {
+        final MappedRegistry<Biome> registry = new MappedRegistry<>(Registries.BIOME, Lifecycle.stable());
+        Registry.register(registry, Biomes.PLAINS, emptyBiome());
+        for (BiomeExtension extension : TFCBiomes.getExtensions())
+        {
+            Registry.register(registry, extension.key(), emptyBiome());
+        }
+        return registry.freeze();
+    }
+
+    private static Biome emptyBiome()
+    {
+        return new Biome.BiomeBuilder()
+            .hasPrecipitation(false)
+            .temperature(0.5f)
+            .downfall(0.5f)
+            .specialEffects(new BiomeSpecialEffects.Builder()
+                .fogColor(0)
+                .waterColor(0)
+                .waterFogColor(0)
+                .skyColor(0)
+                .build())
+            .mobSpawnSettings(MobSpawnSettings.EMPTY)
+            .generationSettings(BiomeGenerationSettings.EMPTY)
+            .build();
+    }
+
+    public Registry<Biome> biomeRegistry;
+    public RegionGenerator regionGenerator;
+    public ConcurrentArea<BiomeExtension> biomeLayer;
+    public BiomeSourceExtension biomeSource;
+    public RegionChunkDataGenerator chunkDataGenerator;
+    public BiomeSampleCache biomeSampleCache;
+    public long noiseSamplerSeed;
+
+    private int nextChunk;
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        TestHelper.bootstrap();
+
+        final XoroshiroRandomSource random = new XoroshiroRandomSource(SEED);
+
+        biomeRegistry = biomeRegistry();
+        regionGenerator = new RegionGenerator(settings(), random);
+        chunkDataGenerator = RegionChunkDataGenerator.create(random.nextLong(), rockLayerSettings(), regionGenerator);
+        biomeLayer = new ConcurrentArea<>(TFCLayers.createRegionBiomeLayer(regionGenerator, random.nextLong()), TFCLayers::getFromLayerId);
+        biomeSource = new Source(regionGenerator, biomeLayer, biomeRegistry);
+        biomeSampleCache = new BiomeSampleCache(this::sampleBiomeNoRiver);
+        noiseSamplerSeed = SEED;
+
+        // Generate all regions and partitions covering the chunk areas, plus a margin for neighboring queries, so that region generation
+        // is not measured by any of the chunk stage benchmarks
+        final int maxGridX = Units.blockToGrid(16 * CHUNKS_WIDTH * CHUNK_AREAS) + 2;
+        final int maxGridZ = Units.blockToGrid(16 * CHUNKS_WIDTH) + 2;
+        for (int gridX = -2; gridX <= maxGridX; gridX++)
+        {
+            for (int gridZ = -2; gridZ <= maxGridZ; gridZ++)
+            {
+                regionGenerator.getOrCreateRegion(gridX, gridZ);
+                regionGenerator.getOrCreatePartitionPoint(gridX, gridZ);
+            }
+        }
+    }
+
+    /**
+     * @return The origin of the next {@link #CHUNKS_WIDTH} x {@link #CHUNKS_WIDTH} area of chunks to sample. Areas walk along the x axis, cycling through
+     * {@link #CHUNK_AREAS} areas, all of which have their regions generated during setup, as they would be during pre-generation. Each area is far enough from
+     * the last time it was visited that any chunk-level caches have long since evicted it, so each invocation samples effectively unseen chunks.
+     */
+    public ChunkPos nextChunkArea()
+    {
+        final ChunkPos pos = new ChunkPos(CHUNKS_WIDTH * nextChunk, 0);
+        nextChunk = (nextChunk + 1) % CHUNK_AREAS;
+        return pos;
+    }
+
+    /**
+     * @return A new, empty, chunk, as would be created by the chunk map before generation.
+     */
+    public ProtoChunk createChunk(ChunkPos pos)
+    {
+        return new ProtoChunk(pos, UpgradeData.EMPTY, HEIGHT, biomeRegistry, null);
+    }
+
+    public BiomeExtension sampleBiomeNoRiver(int blockX, int blockZ)
+    {
+        return biomeSource.getBiomeExtensionNoRiver(QuartPos.fromBlock(blockX), QuartPos.fromBlock(blockZ));
+    }
+
+    /**
+     * Equivalent of {@link net.dries007.tfc.world.TFCChunkGenerator#createHeightFillerForChunk(ChunkPos)}
+     */
+    public ChunkHeightFiller createHeightFiller(ChunkPos pos)
+    {
+        final Map<BiomeExtension, BiomeNoiseSampler> biomeSamplers = new IdentityHashMap<>();
+        for (BiomeExtension extension : TFCBiomes.getExtensions())
+        {
+            final BiomeNoiseSampler sampler = extension.createNoiseSampler(noiseSamplerSeed);
+            if (sampler != null)
+            {
+                biomeSamplers.put(extension, sampler);
+            }
+        }
+
+        final Map<RiverBlendType, RiverNoiseSampler> riverSamplers = new EnumMap<>(RiverBlendType.class);
+        for (RiverBlendType blendType : RiverBlendType.ALL)
+        {
+            riverSamplers.put(blendType, blendType.createNoiseSampler(noiseSamplerSeed));
+        }
+
+        final Noise2D shoreSampler = new OpenSimplex2D(noiseSamplerSeed)
+            .octaves(2)
+            .spread(0.003f)
+            .scaled(-0.1, 1.1);
+
+        return new ChunkHeightFiller(ChunkBiomeSampler.sampleBiomes(pos, this::sampleBiomeNoRiver), biomeSource, biomeSamplers, riverSamplers, shoreSampler, SEA_LEVEL);
+    }
+
+    /**
+     * Equivalent of {@link net.dries007.tfc.world.biome.RegionBiomeSource}, with biomes resolved from the minimal {@link #biomeRegistry()}.
+     */
+    record Source(RegionGenerator regionGenerator, ConcurrentArea<BiomeExtension> biomeLayer, Registry<Biome> biomeRegistry) implements BiomeSourceExtension
+    {
+        @Override
+        public BiomeExtension getBiomeExtensionNoRiver(int quartX, int quartZ)
+        {
+            return biomeLayer.get(quartX, quartZ);
+        }
+
+        @Override
+        public Holder<Biome> getBiomeFromExtension(BiomeExtension extension)
+        {
+            return biomeRegistry.getHolderOrThrow(extension.key());
+        }
+
+        @Override
+        public RegionPartition.Point getPartition(int blockX, int blockZ)
+        {
+            return regionGenerator.getOrCreatePartitionPoint(Units.blockToGrid(blockX), Units.blockToGrid(blockZ));
+        }
+    }
+}
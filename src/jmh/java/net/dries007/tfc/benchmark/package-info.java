@@ -0,0 +1,12 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+package net.dries007.tfc.benchmark;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+import net.minecraft.MethodsReturnNonnullByDefault;
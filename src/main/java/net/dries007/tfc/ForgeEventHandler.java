@@ -160,6 +160,7 @@ import net.dries007.tfc.common.capabilities.egg.EggHandler;
 import net.dries007.tfc.common.capabilities.food.DynamicBowlHandler;
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.food.FoodDefinition;
+import net.dries007.tfc.common.capabilities.food.FoodTrait;
 import net.dries007.tfc.common.capabilities.food.IFood;
 import net.dries007.tfc.common.capabilities.food.TFCFoodData;
 import net.dries007.tfc.common.capabilities.forge.Forging;
@@ -185,7 +186,9 @@ import net.dries007.tfc.common.recipes.CollapseRecipe;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
 import net.dries007.tfc.mixin.accessor.RecipeManagerAccessor;
+import net.dries007.tfc.network.ChunkWatchBatcher;
 import net.dries007.tfc.network.EffectExpirePacket;
+import net.dries007.tfc.network.FoodTraitIdsPacket;
 import net.dries007.tfc.network.PacketHandler;
 import net.dries007.tfc.network.PlayerDrinkPacket;
 import net.dries007.tfc.network.UpdateClimateModelPacket;
@@ -239,6 +242,7 @@ public final class ForgeEventHandler
         bus.addGenericListener(ItemStack.class, ForgeEventHandler::attachItemCapabilities);
         bus.addGenericListener(Entity.class, ForgeEventHandler::attachEntityCapabilities);
         bus.addListener(ForgeEventHandler::onChunkWatch);
+        bus.addListener(ForgeEventHandler::onChunkUnWatch);
         bus.addListener(ForgeEventHandler::onChunkDataSave);
         bus.addListener(ForgeEventHandler::onChunkDataLoad);
         bus.addListener(ForgeEventHandler::registerCommands);
@@ -248,6 +252,7 @@ public final class ForgeEventHandler
         bus.addListener(ForgeEventHandler::onNeighborUpdate);
         bus.addListener(ForgeEventHandler::onExplosionDetonate);
         bus.addListener(ForgeEventHandler::onWorldTick);
+        bus.addListener(ForgeEventHandler::onServerTick);
         bus.addListener(ForgeEventHandler::onWorldLoad);
         bus.addListener(ForgeEventHandler::onCreateNetherPortal);
         bus.addListener(ForgeEventHandler::onFluidPlaceBlock);
@@ -416,14 +421,20 @@ public final class ForgeEventHandler
     public static void onChunkWatch(ChunkWatchEvent.Watch event)
     {
         // When we watch a chunk, the chunk data should already be generated on server, and have FULL status, (with a TFC chunk generator)
-        // We then sync the data on these chunks to client directly
+        // We then sync the data on these chunks to client, batched with other chunks watched this tick
         final ChunkData chunkData = ChunkData.get(event.getChunk());
         if (chunkData.status() == ChunkData.Status.FULL)
         {
-            PacketHandler.send(PacketDistributor.PLAYER.with(event::getPlayer), chunkData.getUpdatePacket());
+            ChunkWatchBatcher.queue(event.getPlayer(), chunkData.getUpdatePacket());
         }
     }
 
+    public static void onChunkUnWatch(ChunkWatchEvent.UnWatch event)
+    {
+        // If the chunk data has not been sent yet, it no longer needs to be
+        ChunkWatchBatcher.unqueue(event.getPlayer(), event.getPos());
+    }
+
     /**
      * Serialize chunk data on chunk primers, before the chunk data capability is present.
      * - This saves the effort of re-generating the same data for proto chunks
@@ -550,6 +561,15 @@ public final class ForgeEventHandler
         }
     }
 
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END)
+        {
+            ChunkWatchBatcher.flush();
+            Climate.clearTemperatureTimelines();
+        }
+    }
+
     public static void onWorldLoad(LevelEvent.Load event)
     {
         if (event.getLevel() instanceof final ServerLevel level)
@@ -1473,6 +1493,8 @@ public final class ForgeEventHandler
         final ServerPlayer player = event.getPlayer();
         final PacketDistributor.PacketTarget target = player == null ? PacketDistributor.ALL.noArg() : PacketDistributor.PLAYER.with(() -> player);
 
+        // Sent first, before any item stacks are synced, as food on them is encoded using the server's trait ids
+        PacketHandler.send(target, new FoodTraitIdsPacket(FoodTrait.getNetworkIds()));
         PacketHandler.send(target, Metal.MANAGER.createSyncPacket());
         PacketHandler.send(target, KnappingType.MANAGER.createSyncPacket());
         PacketHandler.send(target, Fuel.MANAGER.createSyncPacket());
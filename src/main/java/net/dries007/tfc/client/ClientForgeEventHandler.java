@@ -56,6 +56,8 @@ import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.network.PacketDistributor;
@@ -72,6 +74,7 @@ import net.dries007.tfc.common.blocks.rock.RockCategory;
 import net.dries007.tfc.common.capabilities.egg.EggCapability;
 import net.dries007.tfc.common.capabilities.egg.IEgg;
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
+import net.dries007.tfc.common.capabilities.food.FoodTrait;
 import net.dries007.tfc.common.capabilities.forge.ForgingBonus;
 import net.dries007.tfc.common.capabilities.forge.ForgingCapability;
 import net.dries007.tfc.common.capabilities.glass.GlassWorkData;
@@ -129,6 +132,8 @@ public class ClientForgeEventHandler
         bus.addListener(ClientForgeEventHandler::onClientPlayerLoggedIn);
         bus.addListener(ClientForgeEventHandler::onClientPlayerLoggedOut);
         bus.addListener(ClientForgeEventHandler::onClientTick);
+        bus.addListener(ClientForgeEventHandler::onChunkUnload);
+        bus.addListener(ClientForgeEventHandler::onLevelUnload);
         bus.addListener(ClientForgeEventHandler::onKeyEvent);
         bus.addListener(ClientForgeEventHandler::onScreenKey);
         bus.addListener(ClientForgeEventHandler::onHighlightBlockEvent);
@@ -406,6 +411,8 @@ public class ClientForgeEventHandler
         {
             Calendars.CLIENT.resetToDefault();
             IndirectHashCollection.clearAllCaches();
+            ClimateTintCache.INSTANCE.clear();
+            FoodTrait.resetNetworkIds();
         }
     }
 
@@ -416,10 +423,28 @@ public class ClientForgeEventHandler
         {
             Calendars.CLIENT.onClientTick();
             ClimateRenderCache.INSTANCE.onClientTick();
+            ClimateTintCache.INSTANCE.onClientTick(world);
             tickWind();
         }
     }
 
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            ClimateTintCache.INSTANCE.onChunkUnload(event.getChunk().getPos());
+        }
+    }
+
+    public static void onLevelUnload(LevelEvent.Unload event)
+    {
+        if (event.getLevel().isClientSide())
+        {
+            ClimateTintCache.INSTANCE.clear();
+            FoodTrait.resetNetworkIds();
+        }
+    }
+
     private static void tickWind()
     {
         if (!TFCConfig.CLIENT.enableWindParticles.get())
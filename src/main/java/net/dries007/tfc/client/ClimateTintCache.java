@@ -0,0 +1,221 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.calendar.Calendars;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.climate.Climate;
+import net.dries007.tfc.util.climate.OverworldClimateModel;
+import net.dries007.tfc.util.climate.TemperatureTimeline;
+import net.dries007.tfc.world.TFCChunkGenerator;
+import net.dries007.tfc.world.chunkdata.ChunkData;
+
+/**
+ * This stores the climate parameters used to tint blocks, as a 16x16 grid for each chunk on client. Block colors are resolved for every tinted block
+ * when a chunk section is rebuilt (and water, for every block within the blend radius), which would otherwise query the chunk data and climate model for
+ * each one.
+ * <p>
+ * Grids are built when chunk data is received from the server. Colors are resolved on chunk rendering threads, so the map of grids is never modified
+ * once published: changes are made to a copy on the client thread, which is published at most once per tick. Temperatures are rebuilt as the season and
+ * time of day change, each hour, a few grids per tick, to avoid rebuilding every grid in a single frame. Grids for chunks which are no longer loaded
+ * (i.e. chunk data which arrived after the chunk was unloaded) are discarded as they are rebuilt. This only supports the {@link OverworldClimateModel}, as
+ * temperatures are stored at sea level, and adjusted by elevation when queried.
+ */
+public enum ClimateTintCache
+{
+    INSTANCE;
+
+    /** The maximum number of grids to rebuild each tick, after the hour changes. */
+    private static final int REBUILDS_PER_TICK = 64;
+
+    private volatile Long2ObjectMap<Grid> grids = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<Grid> pendingGrids = new Long2ObjectOpenHashMap<>();
+    private final LongArrayList staleGrids = new LongArrayList();
+    private boolean dirty = false;
+    private long hour = Long.MIN_VALUE;
+
+    /**
+     * Called on client when chunk data is received, which may be before the chunk itself is loaded.
+     */
+    public void onChunkDataReceived(Level level, ChunkData data)
+    {
+        if (Climate.model(level) instanceof OverworldClimateModel model)
+        {
+            pendingGrids.put(data.getPos().toLong(), Grid.create(model, level, data));
+            dirty = true;
+        }
+    }
+
+    /**
+     * Called on client tick. Publishes any grids added or removed since the last tick, and rebuilds the temperatures of a limited number of grids which
+     * are out of date.
+     */
+    public void onClientTick(Level level)
+    {
+        final long currentHour = ICalendar.getTotalHours(Calendars.CLIENT.getCalendarTicks());
+        if (currentHour != hour)
+        {
+            hour = currentHour;
+            staleGrids.clear();
+            staleGrids.addAll(pendingGrids.keySet());
+        }
+
+        if (!staleGrids.isEmpty())
+        {
+            if (Climate.model(level) instanceof OverworldClimateModel model)
+            {
+                for (int i = 0; i < REBUILDS_PER_TICK && !staleGrids.isEmpty(); i++)
+                {
+                    final long key = staleGrids.popLong();
+                    final Grid grid = pendingGrids.get(key);
+                    if (grid != null)
+                    {
+                        if (level.hasChunk(ChunkPos.getX(key), ChunkPos.getZ(key)))
+                        {
+                            grid.updateTemperatures(model, level);
+                        }
+                        else
+                        {
+                            pendingGrids.remove(key);
+                            dirty = true;
+                        }
+                    }
+                }
+            }
+            else
+            {
+                staleGrids.clear();
+            }
+        }
+
+        if (dirty)
+        {
+            dirty = false;
+            grids = new Long2ObjectOpenHashMap<>(pendingGrids);
+        }
+    }
+
+    public void onChunkUnload(ChunkPos pos)
+    {
+        if (pendingGrids.remove(pos.toLong()) != null)
+        {
+            dirty = true;
+        }
+    }
+
+    public void clear()
+    {
+        pendingGrids.clear();
+        staleGrids.clear();
+        grids = new Long2ObjectOpenHashMap<>();
+        dirty = false;
+        hour = Long.MIN_VALUE;
+    }
+
+    /**
+     * @return The grid for the chunk containing {@code pos}, or {@code null} if chunk data has not been received for that chunk.
+     */
+    @Nullable
+    public Grid get(BlockPos pos)
+    {
+        return grids.get(ChunkPos.asLong(pos));
+    }
+
+    public static final class Grid
+    {
+        static Grid create(OverworldClimateModel model, Level level, ChunkData data)
+        {
+            final float[] averageTemperature = new float[16 * 16];
+            final float[] rainfall = new float[16 * 16];
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    averageTemperature[index(x, z)] = data.getAverageTemp(x, z);
+                    rainfall[index(x, z)] = data.getRainfall(x, z);
+                }
+            }
+            return new Grid(data, averageTemperature, rainfall, computeTemperatures(model, level, data));
+        }
+
+        private static float[] computeTemperatures(OverworldClimateModel model, Level level, ChunkData data)
+        {
+            final TemperatureTimeline timeline = model.createTemperatureTimeline(level, data);
+            final long calendarTicks = Calendars.CLIENT.getCalendarTicks();
+            final int daysInMonth = Calendars.CLIENT.getCalendarDaysInMonth();
+            final ChunkPos chunkPos = data.getPos();
+            final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            final float[] temperature = new float[16 * 16];
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    cursor.set(chunkPos.getBlockX(x), TFCChunkGenerator.SEA_LEVEL_Y, chunkPos.getBlockZ(z));
+                    temperature[index(x, z)] = timeline.getTemperature(cursor, calendarTicks, daysInMonth);
+                }
+            }
+            return temperature;
+        }
+
+        private static int index(int x, int z)
+        {
+            return (x & 15) | ((z & 15) << 4);
+        }
+
+        private final ChunkData data;
+        private final float[] averageTemperature;
+        private final float[] rainfall;
+        private volatile float[] seaLevelTemperature; // Replaced, never modified, when temperatures are rebuilt
+
+        private Grid(ChunkData data, float[] averageTemperature, float[] rainfall, float[] seaLevelTemperature)
+        {
+            this.data = data;
+            this.averageTemperature = averageTemperature;
+            this.rainfall = rainfall;
+            this.seaLevelTemperature = seaLevelTemperature;
+        }
+
+        /**
+         * Above sea level, temperature decreases linearly with elevation, so it can be derived from the temperature at sea level. Below sea level, the
+         * daily and monthly variation is reduced, so this must be queried from the climate model instead.
+         *
+         * @return {@code true} if {@link #getTemperature(BlockPos)} is valid at {@code pos}.
+         */
+        public boolean hasTemperature(BlockPos pos)
+        {
+            return pos.getY() >= OverworldClimateModel.SEA_LEVEL;
+        }
+
+        public float getTemperature(BlockPos pos)
+        {
+            return OverworldClimateModel.getAdjustedAverageTempByElevation(pos.getY(), seaLevelTemperature[index(pos.getX(), pos.getZ())]);
+        }
+
+        public float getAverageTemperature(BlockPos pos)
+        {
+            return averageTemperature[index(pos.getX(), pos.getZ())];
+        }
+
+        public float getRainfall(BlockPos pos)
+        {
+            return rainfall[index(pos.getX(), pos.getZ())];
+        }
+
+        void updateTemperatures(OverworldClimateModel model, Level level)
+        {
+            seaLevelTemperature = computeTemperatures(model, level, data);
+        }
+    }
+}
@@ -161,13 +161,16 @@ public final class TFCColors
      */
     private static int getSeasonalFoliageColor(BlockPos pos, LevelAccessor level, int autumnIndex)
     {
-        ChunkData data = ChunkData.get(level, pos);
-        float temp = OverworldClimateModel.getAdjustedAverageTempByElevation(pos, data);
+        final ClimateTintCache.Grid grid = ClimateTintCache.INSTANCE.get(pos);
+        final float averageTemperature = grid != null ? grid.getAverageTemperature(pos) : ChunkData.get(level, pos).getAverageTemp(pos);
+        float temp = OverworldClimateModel.getAdjustedAverageTempByElevation(pos.getY(), averageTemperature);
         float timeOfYear = Calendars.CLIENT.getCalendarFractionOfYear();
         final float tempClamped = temp > 12f ? 12f : Math.max(temp, -20f);
 
-        final float cubedTerm = 1.5f * (float) Math.pow(tempClamped + 3f, 3f) / 4913f;
-        final float squaredTerm = 0.5f * (float) Math.pow(tempClamped + 3f, 2f) / 289f;
+        final float tempOffset = tempClamped + 3f;
+        final float squared = tempOffset * tempOffset;
+        final float cubedTerm = 1.5f * squared * tempOffset / 4913f;
+        final float squaredTerm = 0.5f * squared / 289f;
         final float autumnStart = (cubedTerm + squaredTerm + 8.5f) / 12f;
         final float autumnEnd = temp > 12f ? autumnStart : (cubedTerm - squaredTerm + 10.5f) / 12f;
         final float springStart = 1f - autumnEnd;
@@ -261,6 +264,11 @@ public final class TFCColors
      */
     private static int getClimateColor(int[] colorCache, BlockPos pos)
     {
+        final ClimateTintCache.Grid grid = ClimateTintCache.INSTANCE.get(pos);
+        if (grid != null && grid.hasTemperature(pos))
+        {
+            return getClimateColor(colorCache, grid.getTemperature(pos), grid.getRainfall(pos));
+        }
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
@@ -273,6 +281,11 @@ public final class TFCColors
 
     private static int getAverageTempClimateColor(int[] colorCache, BlockPos pos)
     {
+        final ClimateTintCache.Grid grid = ClimateTintCache.INSTANCE.get(pos);
+        if (grid != null)
+        {
+            return getClimateColor(colorCache, grid.getAverageTemperature(pos), grid.getRainfall(pos));
+        }
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
@@ -285,6 +298,11 @@ public final class TFCColors
 
     private static int getAverageTempClimateColor(int[] colorCache, BlockPos pos, float averageTemperature)
     {
+        final ClimateTintCache.Grid grid = ClimateTintCache.INSTANCE.get(pos);
+        if (grid != null)
+        {
+            return getClimateColor(colorCache, averageTemperature, grid.getRainfall(pos));
+        }
         final Level level = ClientHelpers.getLevel();
         if (level != null)
         {
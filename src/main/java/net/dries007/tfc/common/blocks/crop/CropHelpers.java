@@ -31,6 +31,7 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
+import net.dries007.tfc.util.climate.TemperatureTimeline;
 
 /**
  * Common growth logic for crop blocks
@@ -54,31 +55,54 @@ public final class CropHelpers
     }
 
     /**
+     * Catches up growth since the crop was last updated, in steps of {@link #UPDATE_INTERVAL}.
+     * <p>
+     * Conditions which do not depend on time, i.e. hydration, are computed once for all steps, and temperatures are queried through a
+     * {@link TemperatureTimeline}, which is shared with all other crops and plants updating in the same chunk, i.e. as the chunk is loaded.
+     *
      * @return {@code true} if the crop survived.
      */
     public static boolean growthTick(Level level, BlockPos pos, BlockState state, CropBlockEntity crop)
     {
         final long firstTick = crop.getLastGrowthTick(), thisTick = Calendars.SERVER.getTicks();
+        if (firstTick + CropHelpers.UPDATE_INTERVAL >= thisTick)
+        {
+            // At most one step, so there is nothing to share between steps
+            return firstTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), firstTick, thisTick, crop);
+        }
+
+        final int hydration = FarmlandBlock.getHydration(level, pos.below());
+        final TemperatureTimeline temperatures = Climate.getTemperatureTimeline(level, pos);
+
         long tick = firstTick + CropHelpers.UPDATE_INTERVAL, lastTick = firstTick;
         for (; tick < thisTick; tick += CropHelpers.UPDATE_INTERVAL)
         {
-            if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop))
+            if (!CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, tick, crop, hydration, temperatures))
             {
                 return false;
             }
             lastTick = tick;
         }
-        return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop);
+        return lastTick >= thisTick || CropHelpers.growthTickStep(level, pos, state, level.getRandom(), lastTick, thisTick, crop, hydration, temperatures);
     }
 
     public static boolean growthTickStep(Level level, BlockPos pos, BlockState state, RandomSource random, long fromTick, long toTick, CropBlockEntity crop)
+    {
+        return growthTickStep(level, pos, state, random, fromTick, toTick, crop, FarmlandBlock.getHydration(level, pos.below()), Climate.getTemperatureTimeline(level, pos));
+    }
+
+    /**
+     * @param hydration The hydration of the farmland below the crop.
+     * @param temperatures The temperature timeline for the crop's chunk.
+     */
+    public static boolean growthTickStep(Level level, BlockPos pos, BlockState state, RandomSource random, long fromTick, long toTick, CropBlockEntity crop, int hydration, TemperatureTimeline temperatures)
     {
         // Calculate invariants
         final ICalendar calendar = Calendars.get(level);
         final BlockPos sourcePos = pos.below();
-        final int hydration = FarmlandBlock.getHydration(level, sourcePos);
-        final float startTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(fromTick));
-        final float endTemperature = Climate.getTemperature(level, pos, calendar, Calendars.SERVER.ticksToCalendarTicks(toTick));
+        final int daysInMonth = calendar.getCalendarDaysInMonth();
+        final float startTemperature = temperatures.getTemperature(pos, Calendars.SERVER.ticksToCalendarTicks(fromTick), daysInMonth);
+        final float endTemperature = temperatures.getTemperature(pos, Calendars.SERVER.ticksToCalendarTicks(toTick), daysInMonth);
         final long tickDelta = toTick - fromTick;
 
         final ICropBlock cropBlock = (ICropBlock) state.getBlock();
@@ -45,6 +45,7 @@ import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
 import net.dries007.tfc.util.climate.ClimateRanges;
+import net.dries007.tfc.util.climate.TemperatureTimeline;
 
 public class BananaPlantBlock extends SeasonalPlantBlock implements IBushBlock, HoeOverlayBlock
 {
@@ -151,6 +152,7 @@ public class BananaPlantBlock extends SeasonalPlantBlock implements IBushBlock,
                 long nextCalendarTick = currentCalendarTick - deltaTicks;
 
                 final ClimateRange range = climateRange.get();
+                final TemperatureTimeline temperatures = Climate.getTemperatureTimeline(level, pos);
                 final int hydration = FruitTreeLeavesBlock.getHydration(level, pos);
 
                 int stage = state.getValue(STAGE);
@@ -175,7 +177,7 @@ public class BananaPlantBlock extends SeasonalPlantBlock implements IBushBlock,
                         }
                     }
 
-                    float temperatureAtNextTick = Climate.getTemperature(level, pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
+                    float temperatureAtNextTick = temperatures.getTemperature(pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
                     Lifecycle lifecycleAtNextTick = getLifecycleForMonth(ICalendar.getMonthOfYear(nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth()));
                     if (range.checkBoth(hydration, temperatureAtNextTick, false))
                     {
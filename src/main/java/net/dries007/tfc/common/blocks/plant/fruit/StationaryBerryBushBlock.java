@@ -33,6 +33,7 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateRange;
+import net.dries007.tfc.util.climate.TemperatureTimeline;
 
 public class StationaryBerryBushBlock extends SeasonalPlantBlock implements HoeOverlayBlock, IBushBlock
 {
@@ -97,6 +98,7 @@ public class StationaryBerryBushBlock extends SeasonalPlantBlock implements HoeO
 
                 final BlockPos sourcePos = pos.below();
                 final ClimateRange range = climateRange.get();
+                final TemperatureTimeline temperatures = Climate.getTemperatureTimeline(level, pos);
                 final int hydration = getHydration(level, sourcePos, state);
 
                 int monthsSpentDying = 0;
@@ -110,7 +112,7 @@ public class StationaryBerryBushBlock extends SeasonalPlantBlock implements HoeO
                     nextCalendarTick = Math.min(nextCalendarTick + Calendars.SERVER.getCalendarTicksInMonth(), currentCalendarTick);
 
 
-                    float temperatureAtNextTick = Climate.getTemperature(level, pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
+                    float temperatureAtNextTick = temperatures.getTemperature(pos, nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth());
                     Lifecycle lifecycleAtNextTick = getLifecycleForMonth(ICalendar.getMonthOfYear(nextCalendarTick, Calendars.SERVER.getCalendarDaysInMonth()));
                     if (range.checkBoth(hydration, temperatureAtNextTick, false))
                     {
@@ -8,6 +8,7 @@ package net.dries007.tfc.common.capabilities;
 
 
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 
 import net.dries007.tfc.common.capabilities.heat.IHeat;
 
@@ -65,4 +66,16 @@ public interface DelegateHeatHandler extends IHeat
     {
         getHeatHandler().deserializeNBT(nbt);
     }
+
+    @Override
+    default boolean writeNetworkData(FriendlyByteBuf buffer)
+    {
+        return getHeatHandler().writeNetworkData(buffer);
+    }
+
+    @Override
+    default void readNetworkData(FriendlyByteBuf buffer)
+    {
+        getHeatHandler().readNetworkData(buffer);
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.capabilities;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.common.util.INBTSerializable;
+
+/**
+ * A capability which is synced on every item stack, via {@link ItemStackCapabilitySync}. By default, this is synced via {@link #serializeNBT()}, but
+ * implementations may provide a more compact binary encoding.
+ */
+public interface INetworkCapability extends INBTSerializable<CompoundTag>
+{
+    /**
+     * Writes this capability in a compact binary format, directly into the buffer the item stack is being written to. The data is length-prefixed when synced,
+     * so it is safe for the reading side to not consume all of it. Data longer than 127 bytes falls back to NBT.
+     *
+     * @return {@code true} if data was written, or {@code false} if {@link #serializeNBT()} should be used instead, in which case anything written is discarded.
+     */
+    default boolean writeNetworkData(FriendlyByteBuf buffer)
+    {
+        return false;
+    }
+
+    /**
+     * Reads data written by {@link #writeNetworkData(FriendlyByteBuf)}. This is only called when that returned {@code true}.
+     */
+    default void readNetworkData(FriendlyByteBuf buffer) {}
+}
@@ -6,11 +6,11 @@
 
 package net.dries007.tfc.common.capabilities;
 
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
-import net.minecraftforge.common.util.INBTSerializable;
 
 import net.dries007.tfc.common.capabilities.food.FoodCapability;
 import net.dries007.tfc.common.capabilities.heat.HeatCapability;
@@ -33,10 +33,25 @@ import net.dries007.tfc.common.capabilities.heat.HeatCapability;
  * Finally, in order to avoid issues caused by other mods due to incorrectly synced item stacks (see <a href="https://github.com/TerraFirmaCraft/TerraFirmaCraft/issues/2198">TerraFirmaCraft#2198</a>), we need to write and read this data in an as unconditional method as possible.
  * This means we cannot check for empty stacks, or those that do not have a capability. In the best case, we write an additional +1 bytes per item stack (a typical item stack has ~4-6 bytes default). This is about as least-cost that we can make it (in the worst case, we write 1 + two nbt tags).
  * <p>
+ * Capabilities may write a compact binary encoding instead of NBT (see {@link INetworkCapability}). Each stack is written and read independently, with no state
+ * shared between stacks, and the compact data is written directly into, and read directly from, the stack's buffer.
+ * <p>
  * We also use a separate capability instance - the {@link HeatCapability#NETWORK_CAPABILITY} and {@link FoodCapability#NETWORK_CAPABILITY}. This is done as to be able to access underlying capability implementations without triggering any initialization which may rely on on-thread resources, such as accessing recipes or recipe caches.
  */
 public final class ItemStackCapabilitySync
 {
+    // Written once per stack. Mismatched mod versions are already refused on connecting, so this should always match, but is checked to fail loudly rather than misread data
+    private static final byte NONE = 0;
+    private static final byte FORMAT_VERSION = 1;
+
+    // Format of each synced capability. Compact data is written by INetworkCapability#writeNetworkData, and prefixed with its length
+    private static final byte ABSENT = 0;
+    private static final byte NBT = 1;
+    private static final byte COMPACT = 2;
+
+    // The length prefix is a varint, which is reserved as a single byte before writing, so compact data longer than this falls back to NBT
+    private static final int MAX_COMPACT_LENGTH = 127;
+
     public static boolean hasSyncableCapability(ItemStack stack)
     {
         return stack.getCapability(FoodCapability.NETWORK_CAPABILITY).isPresent() || stack.getCapability(HeatCapability.NETWORK_CAPABILITY).isPresent();
@@ -52,39 +67,76 @@ public final class ItemStackCapabilitySync
         {
             if (hasSyncableCapability(stack))
             {
-                buffer.writeBoolean(true);
+                buffer.writeByte(FORMAT_VERSION);
                 writeToNetwork(FoodCapability.NETWORK_CAPABILITY, stack, buffer);
                 writeToNetwork(HeatCapability.NETWORK_CAPABILITY, stack, buffer);
             }
             else
             {
-                buffer.writeBoolean(false);
+                buffer.writeByte(NONE);
             }
         }
     }
 
     public static void readFromNetwork(ItemStack stack, FriendlyByteBuf buffer)
     {
-        if (buffer.readBoolean())
+        final byte version = buffer.readByte();
+        if (version == FORMAT_VERSION)
         {
             readFromNetwork(FoodCapability.NETWORK_CAPABILITY, stack, buffer);
             readFromNetwork(HeatCapability.NETWORK_CAPABILITY, stack, buffer);
         }
+        else if (version != NONE)
+        {
+            throw new DecoderException("Unknown item stack capability format: " + version);
+        }
     }
 
-    private static void writeToNetwork(Capability<? extends INBTSerializable<CompoundTag>> capability, ItemStack stack, FriendlyByteBuf buffer)
+    private static void writeToNetwork(Capability<? extends INetworkCapability> capability, ItemStack stack, FriendlyByteBuf buffer)
     {
-        buffer.writeNbt(stack.getCapability(capability)
-            .map(INBTSerializable::serializeNBT)
-            .orElse(null));
+        final INetworkCapability cap = stack.getCapability(capability).resolve().orElse(null);
+        if (cap == null)
+        {
+            buffer.writeByte(ABSENT);
+            return;
+        }
+
+        final int start = buffer.writerIndex();
+        buffer.writeByte(COMPACT);
+        buffer.writeByte(0); // Length, which is filled in once the data is written
+        if (cap.writeNetworkData(buffer))
+        {
+            final int length = buffer.writerIndex() - start - 2;
+            if (length <= MAX_COMPACT_LENGTH)
+            {
+                buffer.setByte(start + 1, length);
+                return;
+            }
+        }
+
+        // Discard anything that was written, and fall back to NBT
+        buffer.writerIndex(start);
+        buffer.writeByte(NBT);
+        buffer.writeNbt(cap.serializeNBT());
     }
 
-    private static void readFromNetwork(Capability<? extends INBTSerializable<CompoundTag>> capability, ItemStack stack, FriendlyByteBuf buffer)
+    private static void readFromNetwork(Capability<? extends INetworkCapability> capability, ItemStack stack, FriendlyByteBuf buffer)
     {
-        final CompoundTag tag = buffer.readNbt();
-        if (tag != null)
+        switch (buffer.readByte())
         {
-            stack.getCapability(capability).ifPresent(cap -> cap.deserializeNBT(tag));
+            case NBT -> {
+                final CompoundTag tag = buffer.readNbt();
+                if (tag != null)
+                {
+                    stack.getCapability(capability).ifPresent(cap -> cap.deserializeNBT(tag));
+                }
+            }
+            case COMPACT -> {
+                final int length = buffer.readVarInt();
+                final int end = buffer.readerIndex() + length;
+                stack.getCapability(capability).ifPresent(cap -> cap.readNetworkData(buffer));
+                buffer.readerIndex(end); // Skip any data that was not read, including all of it if the capability is not present
+            }
         }
     }
 }
@@ -8,6 +8,7 @@ package net.dries007.tfc.common.capabilities.food;
 
 import java.util.List;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 
 public interface DelegateFoodHandler extends IFood
 {
@@ -73,6 +74,18 @@ public interface DelegateFoodHandler extends IFood
         getFoodHandler().deserializeNBT(nbt);
     }
 
+    @Override
+    default boolean writeNetworkData(FriendlyByteBuf buffer)
+    {
+        return getFoodHandler().writeNetworkData(buffer);
+    }
+
+    @Override
+    default void readNetworkData(FriendlyByteBuf buffer)
+    {
+        getFoodHandler().readNetworkData(buffer);
+    }
+
     @Override
     default boolean isRotten()
     {
@@ -29,6 +29,7 @@ import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ResolvedCache;
 
 public final class FoodCapability
 {
@@ -38,6 +39,7 @@ public final class FoodCapability
     public static final ResourceLocation KEY = Helpers.identifier("food");
     public static final DataManager<FoodDefinition> MANAGER = new DataManager<>(Helpers.identifier("food_items"), "food", FoodDefinition::new, FoodDefinition::new, FoodDefinition::encode, Packet::new);
     public static final IndirectHashCollection<Item, FoodDefinition> CACHE = IndirectHashCollection.create(FoodDefinition::getValidItems, MANAGER::getValues);
+    public static final ResolvedCache<Item, ItemStack, FoodDefinition> RESOLVED_CACHE = ResolvedCache.forItems(CACHE);
 
     @Nullable
     public static IFood get(ItemStack stack)
@@ -53,14 +55,7 @@ public final class FoodCapability
     @Nullable
     public static FoodDefinition getDefinition(ItemStack stack)
     {
-        for (FoodDefinition def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return RESOLVED_CACHE.get(stack.getItem(), stack);
     }
 
     /**
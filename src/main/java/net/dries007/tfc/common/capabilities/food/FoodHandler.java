@@ -15,6 +15,7 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.StringTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.common.capabilities.Capability;
@@ -215,6 +216,44 @@ public class FoodHandler implements ICapabilitySerializable<CompoundTag>, IFood
         creationDate = nbt.contains("creationDate") ? nbt.getLong("creationDate") : UNKNOWN_CREATION_DATE;
     }
 
+    @Override
+    public boolean writeNetworkData(FriendlyByteBuf buffer)
+    {
+        if (isDynamic())
+        {
+            return false; // Dynamic food data is only synced via NBT
+        }
+
+        // Creation dates are offset such that the special values (never decay, and unknown) are small, non-negative values
+        buffer.writeVarLong(getCreationDate() - NEVER_DECAY_CREATION_DATE);
+        buffer.writeVarInt(foodTraits.size());
+        for (FoodTrait trait : foodTraits)
+        {
+            final int id = FoodTrait.getNetworkId(trait);
+            if (id == -1)
+            {
+                return false; // Trait without a network id, i.e. one the server does not have, which can only be synced by name
+            }
+            buffer.writeVarInt(id);
+        }
+        return true;
+    }
+
+    @Override
+    public void readNetworkData(FriendlyByteBuf buffer)
+    {
+        creationDate = buffer.readVarLong() + NEVER_DECAY_CREATION_DATE;
+        foodTraits.clear();
+        for (int i = buffer.readVarInt(); i > 0; i--)
+        {
+            final FoodTrait trait = FoodTrait.byNetworkId(buffer.readVarInt());
+            if (trait != null)
+            {
+                foodTraits.add(trait); // Traits not known on this side are dropped, as they would be when read from NBT
+            }
+        }
+    }
+
     /**
      * This marks if the food data should be serialized. For normal food items, it isn't, because all values are provided on construction via CapabilityFood. Only mark this if food data will change per item stack
      */
@@ -6,6 +6,8 @@
 
 package net.dries007.tfc.common.capabilities.food;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -15,6 +17,8 @@ import org.jetbrains.annotations.Nullable;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
@@ -23,6 +27,8 @@ public class FoodTrait
 {
     private static final BiMap<ResourceLocation, FoodTrait> REGISTRY = HashBiMap.create();
 
+    private static volatile @Nullable NetworkIds networkIds;
+
     /**
      * Register a food trait.
      * This method is safe to call during parallel mod loading.
@@ -34,6 +40,7 @@ public class FoodTrait
             throw new IllegalArgumentException("Duplicate key: " + id);
         }
         REGISTRY.put(id, trait);
+        networkIds = null;
         return trait;
     }
 
@@ -53,6 +60,67 @@ public class FoodTrait
         return REGISTRY.inverse().get(trait);
     }
 
+    /**
+     * @return A small integer id for the trait, which is an index into the server's trait ids (see {@link #setNetworkIds(List)}), or -1 if the trait has no id,
+     * for instance if the server does not have it registered.
+     */
+    public static int getNetworkId(FoodTrait trait)
+    {
+        return networkIds().ids.getInt(trait);
+    }
+
+    /**
+     * @return The trait with the given network id, or {@code null} if there is none, or if the server's trait with that id is not registered on this side.
+     */
+    @Nullable
+    public static FoodTrait byNetworkId(int id)
+    {
+        final List<FoodTrait> traits = networkIds().traits;
+        return id >= 0 && id < traits.size() ? traits.get(id) : null;
+    }
+
+    /**
+     * @return The ids of all traits, in network id order, which are sent to clients when they connect.
+     */
+    public static List<ResourceLocation> getNetworkIds()
+    {
+        return networkIds().names;
+    }
+
+    /**
+     * On client, replaces the network ids with those used by the server, so that traits are synced correctly even if either side has traits the other
+     * does not. Traits missing on the server are synced by name instead.
+     */
+    public static void setNetworkIds(List<ResourceLocation> names)
+    {
+        networkIds = NetworkIds.of(names);
+    }
+
+    /**
+     * On client, reverts to the locally registered network ids, when disconnecting from a server.
+     */
+    public static void resetNetworkIds()
+    {
+        networkIds = null;
+    }
+
+    private static NetworkIds networkIds()
+    {
+        NetworkIds ids = networkIds;
+        if (ids == null)
+        {
+            synchronized (FoodTrait.class)
+            {
+                // Sort by id, as the registry has no consistent iteration order
+                networkIds = ids = NetworkIds.of(REGISTRY.keySet()
+                    .stream()
+                    .sorted(Comparator.comparing(ResourceLocation::toString))
+                    .toList());
+            }
+        }
+        return ids;
+    }
+
     private final Supplier<Float> decayModifier;
     @Nullable private final String translationKey;
 
@@ -91,4 +159,24 @@ public class FoodTrait
             text.add(component);
         }
     }
+
+    record NetworkIds(List<ResourceLocation> names, List<FoodTrait> traits, Reference2IntMap<FoodTrait> ids)
+    {
+        static NetworkIds of(List<ResourceLocation> names)
+        {
+            final List<FoodTrait> traits = new ArrayList<>(names.size());
+            final Reference2IntMap<FoodTrait> ids = new Reference2IntOpenHashMap<>(names.size());
+            ids.defaultReturnValue(-1);
+            for (ResourceLocation name : names)
+            {
+                final FoodTrait trait = REGISTRY.get(name);
+                if (trait != null)
+                {
+                    ids.put(trait, traits.size());
+                }
+                traits.add(trait);
+            }
+            return new NetworkIds(names, traits, ids);
+        }
+    }
 }
@@ -24,6 +24,7 @@ import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Fuel;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ResolvedCache;
 
 public final class HeatCapability
 {
@@ -40,6 +41,7 @@ public final class HeatCapability
 
     public static final DataManager<HeatDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_heats"), "item heat", HeatDefinition::new, HeatDefinition::new, HeatDefinition::encode, Packet::new);
     public static final IndirectHashCollection<Item, HeatDefinition> CACHE = IndirectHashCollection.create(HeatDefinition::getValidItems, MANAGER::getValues);
+    public static final ResolvedCache<Item, ItemStack, HeatDefinition> RESOLVED_CACHE = ResolvedCache.forItems(CACHE);
 
     public static final float POTTERY_HEAT_CAPACITY = 1.2f;
 
@@ -92,14 +94,7 @@ public final class HeatCapability
     @Nullable
     public static HeatDefinition getDefinition(ItemStack stack)
     {
-        for (HeatDefinition def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return RESOLVED_CACHE.get(stack.getItem(), stack);
     }
 
     public static float adjustTempTowards(float temp, float target)
@@ -8,6 +8,7 @@ package net.dries007.tfc.common.capabilities.heat;
 
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 import net.minecraftforge.common.util.LazyOptional;
@@ -18,6 +19,8 @@ import net.dries007.tfc.util.calendar.Calendars;
 
 public class HeatHandler implements ICapabilitySerializable<CompoundTag>, IHeat
 {
+    private static final float TEMPERATURE_SCALE = 100f;
+
     private final LazyOptional<IHeat> capability = LazyOptional.of(() -> this);
 
     private final float forgingTemp; // Temperature at which this item can be worked in forging
@@ -124,6 +127,27 @@ public class HeatHandler implements ICapabilitySerializable<CompoundTag>, IHeat
         lastUpdateTick = nbt.getLong("ticks");
     }
 
+    @Override
+    public boolean writeNetworkData(FriendlyByteBuf buffer)
+    {
+        // Mirrors serializeNBT(), with the temperature quantized to a hundredth of a degree, which also omits the update tick when cold
+        final int heat = getTemperature() <= 0 ? 0 : Math.max(0, Math.round(temperature * TEMPERATURE_SCALE));
+        buffer.writeVarInt(heat);
+        if (heat != 0)
+        {
+            buffer.writeVarLong(lastUpdateTick);
+        }
+        return true;
+    }
+
+    @Override
+    public void readNetworkData(FriendlyByteBuf buffer)
+    {
+        final int heat = buffer.readVarInt();
+        temperature = heat / TEMPERATURE_SCALE;
+        lastUpdateTick = heat == 0 ? 0 : buffer.readVarLong();
+    }
+
     /**
      * Sets the current heat capacity, for implementations that might change this based on an internal state
      */
@@ -26,11 +26,13 @@ import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ResolvedCache;
 
 public final class ItemSizeManager
 {
     public static final DataManager<ItemSizeDefinition> MANAGER = new DataManager<>(Helpers.identifier("item_sizes"), "item size", ItemSizeDefinition::new, ItemSizeDefinition::new, ItemSizeDefinition::encode, Packet::new);
     public static final IndirectHashCollection<Item, ItemSizeDefinition> CACHE = IndirectHashCollection.create(ItemSizeDefinition::getValidItems, MANAGER::getValues);
+    public static final ResolvedCache<Item, ItemStack, ItemSizeDefinition> RESOLVED_CACHE = ResolvedCache.forItems(CACHE);
 
     private static final Logger LOGGER = LogUtils.getLogger();
     private static final List<Item> MODIFIABLE_ITEMS = new ArrayList<>();
@@ -102,12 +104,10 @@ public final class ItemSizeManager
         }
 
         // Definitions
-        for (ItemSizeDefinition def : CACHE.getAll(stack.getItem()))
+        final ItemSizeDefinition def = RESOLVED_CACHE.get(item, stack);
+        if (def != null)
         {
-            if (def.matches(stack))
-            {
-                return def;
-            }
+            return def;
         }
 
         // Default rules
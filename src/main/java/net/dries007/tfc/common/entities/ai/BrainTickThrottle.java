@@ -0,0 +1,174 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.entities.ai;
+
+import java.util.List;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.schedule.Activity;
+
+import net.dries007.tfc.common.TFCTags;
+import net.dries007.tfc.config.TFCConfig;
+import net.dries007.tfc.mixin.accessor.BrainAccessor;
+import net.dries007.tfc.util.Helpers;
+
+/**
+ * Reduces how often the behaviors of an idle animal are ticked, when it is far from any player. A brain ticks all of its sensors, behaviors and
+ * memories every tick, and the behaviors are a significant cost for large numbers of penned animals that are rarely doing anything.
+ * <p>
+ * Sensors and memory expiry are always ticked every tick, so an animal notices threats, and forgets memories, at the same rate as if it was not
+ * throttled. Only starting and ticking behaviors is throttled. Behaviors which count their own ticks, rather than game time (i.e. how long to wait
+ * before looking at a nearby player) run proportionally slower while throttled.
+ * <p>
+ * An animal's brain is always ticked every tick when it is near a player, or is doing anything which is not idle: moving, being hurt or panicking,
+ * seeing or avoiding a predator, being tempted, breeding, or shortly after being interacted with. Otherwise, it is ticked every few ticks,
+ * staggered between animals, and less often the further it is from the nearest player. This is checked every tick, so an animal which becomes
+ * active is ticked immediately.
+ * <p>
+ * Brain ticks are recorded in the profiler, under the entity type of each animal, as {@code tfc_brain}, along with counters for the number of brain
+ * ticks which were run and skipped.
+ */
+public final class BrainTickThrottle
+{
+    public static final int AWAKE_TICKS = 100;
+
+    private static final int FAR_INTERVAL = 4;
+    private static final int VERY_FAR_INTERVAL = 10;
+
+    private static final List<MemoryModuleType<?>> ACTIVE_MEMORIES = List.of(
+        MemoryModuleType.WALK_TARGET, MemoryModuleType.PATH, MemoryModuleType.AVOID_TARGET, MemoryModuleType.ATTACK_TARGET,
+        MemoryModuleType.BREED_TARGET, MemoryModuleType.TEMPTING_PLAYER, MemoryModuleType.HURT_BY, MemoryModuleType.IS_PANICKING
+    );
+
+    private int ticksUntilNext;
+    private int awakeTicks;
+
+    /**
+     * Ticks the brain every tick for the next {@link #AWAKE_TICKS}, i.e. after an animal is interacted with.
+     */
+    public void wake()
+    {
+        ticksUntilNext = 0;
+        awakeTicks = AWAKE_TICKS;
+    }
+
+    /**
+     * Runs {@code brainTick} if the brain of {@code mob} should be ticked this tick, otherwise only ticks its memories and sensors. Called every server tick.
+     */
+    public void tick(Mob mob, Runnable brainTick)
+    {
+        final ProfilerFiller profiler = mob.level().getProfiler();
+        if (shouldTick(mob))
+        {
+            profiler.incrementCounter("tfc_brain_ticked");
+            profiler.push("tfc_brain");
+            brainTick.run();
+            profiler.pop();
+        }
+        else if (mob.level() instanceof ServerLevel level)
+        {
+            profiler.incrementCounter("tfc_brain_skipped");
+            profiler.push("tfc_brain_sensors");
+            final BrainAccessor brain = (BrainAccessor) mob.getBrain();
+            brain.invoke$forgetOutdatedMemories();
+            brain.invoke$tickSensors(level, mob);
+            profiler.pop();
+        }
+    }
+
+    private boolean shouldTick(Mob mob)
+    {
+        if (awakeTicks > 0)
+        {
+            awakeTicks--;
+            return true;
+        }
+        if (!TFCConfig.SERVER.enableAnimalBrainThrottling.get() || isActive(mob))
+        {
+            ticksUntilNext = 0;
+            return true;
+        }
+        if (ticksUntilNext > 0)
+        {
+            ticksUntilNext--;
+            return false;
+        }
+
+        final int interval = getIdleInterval(mob);
+        if (interval > 1)
+        {
+            // Stagger the next tick by entity, so animals which all became idle at the same time do not tick in unison
+            ticksUntilNext = interval - 1 - Math.floorMod(mob.getId() + mob.tickCount, interval);
+        }
+        return true;
+    }
+
+    private boolean isActive(Mob mob)
+    {
+        if (mob.hurtTime > 0 || mob.isLeashed() || mob.isVehicle() || mob.isPassenger() || !mob.getNavigation().isDone())
+        {
+            return true;
+        }
+        if (mob instanceof Animal animal && animal.isInLove())
+        {
+            return true;
+        }
+
+        final Brain<?> brain = mob.getBrain();
+        if (brain.isActive(Activity.AVOID) || brain.isActive(Activity.FIGHT))
+        {
+            return true;
+        }
+        for (MemoryModuleType<?> memory : ACTIVE_MEMORIES)
+        {
+            if (brain.hasMemoryValue(memory))
+            {
+                return true;
+            }
+        }
+
+        // A predator is visible, so respond to it as soon as it is sensed, as predators are not throttled
+        return brain.getMemory(MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES)
+            .flatMap(visible -> visible.findClosest(entity -> Helpers.isEntity(entity, TFCTags.Entities.HUNTS_LAND_PREY)))
+            .isPresent();
+    }
+
+    /**
+     * @return The number of ticks between brain ticks for an idle {@code mob}, depending on the distance to the nearest player.
+     */
+    private int getIdleInterval(Mob mob)
+    {
+        final int distance = TFCConfig.SERVER.animalBrainThrottleDistance.get();
+        final double distanceSq = getDistanceSqToNearestPlayer(mob);
+        if (distanceSq <= (double) distance * distance)
+        {
+            return 1;
+        }
+        return distanceSq <= 4d * distance * distance ? FAR_INTERVAL : VERY_FAR_INTERVAL;
+    }
+
+    private double getDistanceSqToNearestPlayer(Mob mob)
+    {
+        double nearest = Double.MAX_VALUE;
+        if (mob.level() instanceof ServerLevel level)
+        {
+            for (ServerPlayer player : level.players())
+            {
+                if (!player.isSpectator())
+                {
+                    nearest = Math.min(nearest, player.distanceToSqr(mob));
+                }
+            }
+        }
+        return nearest;
+    }
+}
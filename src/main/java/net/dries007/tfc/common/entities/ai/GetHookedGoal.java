@@ -6,8 +6,6 @@
 
 package net.dries007.tfc.common.entities.ai;
 
-import java.util.List;
-
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.items.TFCFishingRodItem;
 
@@ -23,6 +21,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.phys.AABB;
 
+import net.dries007.tfc.common.entities.misc.FishingHookTracker;
 import net.dries007.tfc.common.entities.misc.TFCFishingHook;
 import net.dries007.tfc.util.Helpers;
 
@@ -74,10 +73,13 @@ public class GetHookedGoal extends MoveToBlockGoal
     @Override
     protected boolean findNearestBlock()
     {
-        List<TFCFishingHook> entities = mob.level().getEntitiesOfClass(TFCFishingHook.class, new AABB(mob.blockPosition()).inflate(12), hook -> !hook.isRemoved());
-        if (!entities.isEmpty())
+        if (FishingHookTracker.isEmpty(mob.level()))
+        {
+            return false;
+        }
+        final TFCFishingHook possibleHook = FishingHookTracker.findNearest(mob.level(), new AABB(mob.blockPosition()).inflate(12));
+        if (possibleHook != null)
         {
-            final TFCFishingHook possibleHook = entities.get(0);
             final ItemStack bait = possibleHook.getBait();
             final TFCFishingRodItem.BaitType type = TFCFishingRodItem.getBaitType(bait);
             final boolean isLarge = Helpers.isEntity(mob, TFCTags.Entities.NEEDS_LARGE_FISHING_BAIT);
@@ -38,6 +38,7 @@ import net.dries007.tfc.common.TFCTags;
 
 import net.dries007.tfc.common.entities.EntityHelpers;
 import net.dries007.tfc.common.entities.Temptable;
+import net.dries007.tfc.common.entities.ai.BrainTickThrottle;
 import net.dries007.tfc.common.entities.ai.TFCGroundPathNavigation;
 import net.dries007.tfc.common.entities.ai.livestock.LivestockAi;
 import net.dries007.tfc.client.TFCSounds;
@@ -68,6 +69,7 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     private final Supplier<? extends SoundEvent> death;
     private final Supplier<? extends SoundEvent> step;
     private final AnimalConfig config;
+    private final BrainTickThrottle brainTickThrottle = new BrainTickThrottle();
 
     public TFCAnimal(EntityType<? extends Animal> type, Level level, TFCSounds.EntitySound sounds, AnimalConfig config)
     {
@@ -102,6 +104,10 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     {
         final boolean hurt = super.hurt(src, amount);
         if (this.level().isClientSide) return hurt;
+        if (hurt)
+        {
+            brainTickThrottle.wake();
+        }
         if (hurt && src.getEntity() instanceof LivingEntity living)
         {
             PreyAi.wasHurtBy(this, living);
@@ -120,7 +126,7 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     protected void customServerAiStep()
     {
         super.customServerAiStep();
-        tickBrain();
+        brainTickThrottle.tick(this, this::tickBrain);
     }
 
     @SuppressWarnings("unchecked")
@@ -249,7 +255,7 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     public void tick()
     {
         super.tick();
-        if (level().getGameTime() % 20 == 0)
+        if ((level().getGameTime() + getId()) % 20 == 0)
         {
             tickAnimalData();
         }
@@ -258,6 +264,7 @@ public abstract class TFCAnimal extends Animal implements TFCAnimalProperties, T
     @Override
     public InteractionResult mobInteract(Player player, InteractionHand hand)
     {
+        brainTickThrottle.wake();
         InteractionResult result = TFCAnimalProperties.super.mobInteract(player, hand);
         return result == InteractionResult.PASS ? super.mobInteract(player, hand) : result;
     }
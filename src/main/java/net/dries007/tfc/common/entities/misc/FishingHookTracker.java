@@ -0,0 +1,129 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.common.entities.misc;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks all {@link TFCFishingHook}s on server, indexed by the chunk section they are in. Every fish searches for nearby hooks, and there are almost
+ * never any, so this avoids an entity query per fish, and lets the search be skipped entirely when there are no hooks in the level.
+ * <p>
+ * Hooks are added and removed as they are added to, and removed from, a level, and moved between sections as they tick.
+ */
+public final class FishingHookTracker
+{
+    private static final Map<Level, Long2ObjectMap<List<TFCFishingHook>>> HOOKS = new IdentityHashMap<>();
+
+    static void add(TFCFishingHook hook)
+    {
+        final Level level = hook.level();
+        if (!level.isClientSide())
+        {
+            hook.trackedSection = SectionPos.asLong(hook.blockPosition());
+            HOOKS.computeIfAbsent(level, key -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(hook.trackedSection, key -> new ArrayList<>())
+                .add(hook);
+        }
+    }
+
+    static void remove(TFCFishingHook hook)
+    {
+        final Level level = hook.level();
+        if (!level.isClientSide())
+        {
+            final Long2ObjectMap<List<TFCFishingHook>> sections = HOOKS.get(level);
+            if (sections != null)
+            {
+                final List<TFCFishingHook> hooks = sections.get(hook.trackedSection);
+                if (hooks != null && hooks.remove(hook) && hooks.isEmpty())
+                {
+                    sections.remove(hook.trackedSection);
+                    if (sections.isEmpty())
+                    {
+                        HOOKS.remove(level);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Called each tick, moves the hook to a different section if it has left the one it was in.
+     */
+    static void update(TFCFishingHook hook)
+    {
+        if (!hook.level().isClientSide() && SectionPos.asLong(hook.blockPosition()) != hook.trackedSection)
+        {
+            remove(hook);
+            add(hook);
+        }
+    }
+
+    /**
+     * @return {@code true} if there are no hooks at all in {@code level}, so any search for hooks can be skipped.
+     */
+    public static boolean isEmpty(Level level)
+    {
+        return !HOOKS.containsKey(level);
+    }
+
+    /**
+     * @return The hook closest to the center of {@code area}, out of all hooks that intersect it, or {@code null} if there are none.
+     */
+    @Nullable
+    public static TFCFishingHook findNearest(Level level, AABB area)
+    {
+        final Long2ObjectMap<List<TFCFishingHook>> sections = HOOKS.get(level);
+        if (sections == null)
+        {
+            return null;
+        }
+
+        final double centerX = (area.minX + area.maxX) * 0.5, centerY = (area.minY + area.maxY) * 0.5, centerZ = (area.minZ + area.maxZ) * 0.5;
+        final int minX = SectionPos.posToSectionCoord(area.minX), maxX = SectionPos.posToSectionCoord(area.maxX);
+        final int minY = SectionPos.posToSectionCoord(area.minY), maxY = SectionPos.posToSectionCoord(area.maxY);
+        final int minZ = SectionPos.posToSectionCoord(area.minZ), maxZ = SectionPos.posToSectionCoord(area.maxZ);
+
+        TFCFishingHook nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int y = minY; y <= maxY; y++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    final List<TFCFishingHook> hooks = sections.get(SectionPos.asLong(x, y, z));
+                    if (hooks != null)
+                    {
+                        for (TFCFishingHook hook : hooks)
+                        {
+                            if (!hook.isRemoved() && hook.getBoundingBox().intersects(area))
+                            {
+                                final double distance = hook.distanceToSqr(centerX, centerY, centerZ);
+                                if (distance < nearestDistance)
+                                {
+                                    nearest = hook;
+                                    nearestDistance = distance;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+}
@@ -42,6 +42,7 @@ public class TFCFishingHook extends FishingHook implements IEntityAdditionalSpaw
     public int pullExhaustion = 0;
     private float strength = 0.04f;
     private long lastPulled = 0;
+    long trackedSection;
 
     public TFCFishingHook(EntityType<? extends TFCFishingHook> type, Level level)
     {
@@ -93,10 +94,28 @@ public class TFCFishingHook extends FishingHook implements IEntityAdditionalSpaw
         return entityData.get(BAIT);
     }
 
+    @Override
+    public void onAddedToWorld()
+    {
+        super.onAddedToWorld();
+        FishingHookTracker.add(this);
+    }
+
+    @Override
+    public void onRemovedFromWorld()
+    {
+        super.onRemovedFromWorld();
+        FishingHookTracker.remove(this);
+    }
+
     @Override
     public void tick()
     {
         super.tick();
+        if (!isRemoved())
+        {
+            FishingHookTracker.update(this);
+        }
         if (hookedIn != null && !hookedIn.isRemoved()) // due to some path-dependent client/server stuff in the big tick loop, we do this to be 100% sure the state is set correctly
         {
             currentState = FishHookState.HOOKED_IN_ENTITY;
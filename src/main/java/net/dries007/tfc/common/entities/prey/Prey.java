@@ -23,6 +23,7 @@ import net.dries007.tfc.client.TFCSounds;
 import net.minecraft.world.entity.AnimationState;
 
 import net.dries007.tfc.common.entities.EntityHelpers;
+import net.dries007.tfc.common.entities.ai.BrainTickThrottle;
 import net.dries007.tfc.common.entities.ai.prey.PreyAi;
 
 public class Prey extends WildAnimal
@@ -39,6 +40,8 @@ public class Prey extends WildAnimal
 
     public final AnimationState walkingAnimation = new AnimationState();
 
+    private final BrainTickThrottle brainTickThrottle = new BrainTickThrottle();
+
     public Prey(EntityType<? extends WildAnimal> type, Level level, TFCSounds.EntitySound sounds)
     {
         super(type, level, sounds);
@@ -59,8 +62,10 @@ public class Prey extends WildAnimal
     @Override
     protected void customServerAiStep()
     {
-        getBrain().tick((ServerLevel) level(), this);
-        PreyAi.updateActivity(this);
+        brainTickThrottle.tick(this, () -> {
+            getBrain().tick((ServerLevel) level(), this);
+            PreyAi.updateActivity(this);
+        });
     }
 
     @Override
@@ -80,6 +85,10 @@ public class Prey extends WildAnimal
         }
         else
         {
+            if (hurt)
+            {
+                brainTickThrottle.wake();
+            }
             if (hurt && src.getEntity() instanceof LivingEntity living)
             {
                 PreyAi.wasHurtBy(this, living);
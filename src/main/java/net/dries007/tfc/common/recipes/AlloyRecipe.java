@@ -7,8 +7,10 @@
 package net.dries007.tfc.common.recipes;
 
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -18,23 +20,57 @@ import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 
 import net.dries007.tfc.common.recipes.inventory.AlloyInventory;
+import net.dries007.tfc.util.Alloy;
 import net.dries007.tfc.util.DataManager;
 import net.dries007.tfc.util.JsonHelpers;
 import net.dries007.tfc.util.Metal;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 import org.jetbrains.annotations.Nullable;
 
 public class AlloyRecipe implements ISimpleRecipe<AlloyInventory>
 {
-    @SuppressWarnings("ConstantConditions")
-    public static Optional<AlloyRecipe> get(RecipeManager recipes, AlloyInventory inventory)
+    /**
+     * Alloy recipes, indexed by the exact set of metals they accept. An alloy can only match a recipe with the same set of metals (excluding trace
+     * amounts), so this only needs to check the ranges of recipes with that set of metals, rather than every recipe.
+     */
+    public static final IndirectHashCollection<Set<Metal>, AlloyRecipe> CACHE = IndirectHashCollection.createForRecipe(recipe -> List.of(recipe.getMetals()), TFCRecipeTypes.ALLOY);
+
+    /**
+     * @return The recipe matching {@code alloy}, if any. This queries {@link #CACHE}, which is built from the active recipe manager whenever recipes are
+     * reloaded, rather than any specific recipe manager.
+     */
+    @Nullable
+    public static AlloyRecipe get(Alloy alloy)
     {
-        return recipes.getRecipeFor(TFCRecipeTypes.ALLOY.get(), inventory, null);
+        for (AlloyRecipe recipe : CACHE.getAll(alloy.getMetals().keySet()))
+        {
+            if (alloy.matches(recipe))
+            {
+                return recipe;
+            }
+        }
+
+        // The alloy may also contain some amount of the result, which is matched as if the result was not present.
+        // So for each metal in the alloy, check recipes which match the remaining metals.
+        if (alloy.getAllMetals().size() > 1)
+        {
+            for (Metal metal : alloy.getAllMetals())
+            {
+                for (AlloyRecipe recipe : CACHE.getAll(alloy.getMetalsWithout(metal)))
+                {
+                    if (recipe.getResult() == metal && alloy.matches(recipe))
+                    {
+                        return recipe;
+                    }
+                }
+            }
+        }
+        return null;
     }
 
     private final ResourceLocation id;
@@ -58,6 +94,14 @@ public class AlloyRecipe implements ISimpleRecipe<AlloyInventory>
         return result.get();
     }
 
+    /**
+     * @return The set of metals accepted by this recipe. This must not be queried before metals are loaded.
+     */
+    public Set<Metal> getMetals()
+    {
+        return metals.keySet().stream().map(DataManager.Reference::get).collect(Collectors.toUnmodifiableSet());
+    }
+
     @Override
     public boolean matches(AlloyInventory wrapper, @Nullable Level level)
     {
@@ -6,6 +6,10 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import net.minecraft.core.RegistryAccess;
@@ -16,8 +20,12 @@ import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import org.jetbrains.annotations.Nullable;
@@ -29,10 +37,24 @@ import net.dries007.tfc.common.recipes.inventory.BarrelInventory;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.collections.FluidItemHashCollection;
 import net.dries007.tfc.util.JsonHelpers;
 
 public abstract class BarrelRecipe implements ISimpleRecipe<BarrelInventory>
 {
+    @Nullable
+    protected static <R extends BarrelRecipe> R findRecipe(FluidItemHashCollection<R> cache, BarrelInventory inventory, @Nullable Level level)
+    {
+        for (R recipe : cache.getAll(inventory.getFluidInTank(0).getFluid(), inventory.getStackInSlot(BarrelBlockEntity.SLOT_ITEM).getItem()))
+        {
+            if (recipe.matches(inventory, level))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     private final ResourceLocation id;
 
     protected final ItemStackIngredient inputItem;
@@ -147,6 +169,29 @@ public abstract class BarrelRecipe implements ISimpleRecipe<BarrelInventory>
         return id;
     }
 
+    /**
+     * @return The fluids which may match the input fluid, used to index recipes.
+     */
+    public Collection<Fluid> getValidInputFluids()
+    {
+        return inputFluid.ingredient().fluids();
+    }
+
+    /**
+     * @return The items which may match the input item, used to index recipes, or {@code null} if the recipe may match any item.
+     */
+    @Nullable
+    public Collection<Item> getValidInputItems()
+    {
+        final Ingredient ingredient = inputItem.ingredient();
+        if (ingredient == Ingredient.EMPTY)
+        {
+            return List.of(Items.AIR); // Only matches an empty slot
+        }
+        final ItemStack[] stacks = ingredient.getItems();
+        return stacks.length == 0 ? null : Arrays.stream(stacks).map(ItemStack::getItem).collect(Collectors.toSet());
+    }
+
     public ItemStackIngredient getInputItem()
     {
         return inputItem;
@@ -15,11 +15,21 @@ import net.minecraft.world.level.Level;
 
 import net.dries007.tfc.common.blockentities.BarrelBlockEntity;
 import net.dries007.tfc.common.recipes.inventory.BarrelInventory;
+import net.dries007.tfc.util.collections.FluidItemHashCollection;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 import org.jetbrains.annotations.Nullable;
 
 public class InstantBarrelRecipe extends BarrelRecipe
 {
+    public static final FluidItemHashCollection<InstantBarrelRecipe> CACHE = IndirectHashCollection.createForFluidItemRecipe(InstantBarrelRecipe::getValidInputFluids, InstantBarrelRecipe::getValidInputItems, TFCRecipeTypes.BARREL_INSTANT);
+
+    @Nullable
+    public static InstantBarrelRecipe getRecipe(BarrelInventory inventory, @Nullable Level level)
+    {
+        return findRecipe(CACHE, inventory, level);
+    }
+
     public InstantBarrelRecipe(ResourceLocation id, Builder builder)
     {
         super(id, builder);
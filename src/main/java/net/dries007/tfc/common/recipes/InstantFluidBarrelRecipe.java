@@ -6,12 +6,14 @@
 
 package net.dries007.tfc.common.recipes;
 
+import java.util.Collection;
 import com.google.gson.JsonObject;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.RecipeSerializer;
 import net.minecraft.world.item.crafting.RecipeType;
@@ -31,9 +33,19 @@ import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.FluidItemHashCollection;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class InstantFluidBarrelRecipe extends BarrelRecipe
 {
+    public static final FluidItemHashCollection<InstantFluidBarrelRecipe> CACHE = IndirectHashCollection.createForFluidItemRecipe(InstantFluidBarrelRecipe::getValidInputFluids, InstantFluidBarrelRecipe::getValidInputItems, TFCRecipeTypes.BARREL_INSTANT_FLUID);
+
+    @Nullable
+    public static InstantFluidBarrelRecipe getRecipe(BarrelInventory inventory, @Nullable Level level)
+    {
+        return findRecipe(CACHE, inventory, level);
+    }
+
     private final FluidStackIngredient addedFluid;
 
     public InstantFluidBarrelRecipe(ResourceLocation id, Builder builder, FluidStackIngredient addedFluid)
@@ -47,6 +59,13 @@ public class InstantFluidBarrelRecipe extends BarrelRecipe
         return addedFluid;
     }
 
+    @Nullable
+    @Override
+    public Collection<Item> getValidInputItems()
+    {
+        return null; // The added fluid may come from either the item or fluid input slot, so this can't be indexed by item
+    }
+
     @Override
     public boolean matches(BarrelInventory container, @Nullable Level level)
     {
@@ -7,7 +7,10 @@
 package net.dries007.tfc.common.recipes;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.gson.JsonArray;
@@ -20,16 +23,21 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.blockentities.PotBlockEntity;
 import net.dries007.tfc.common.recipes.ingredients.FluidStackIngredient;
 import net.dries007.tfc.compat.jade.common.BlockEntityTooltip;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.collections.FluidItemHashCollection;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 /**
  * Recipe type for all cooking pot recipes
@@ -42,6 +50,32 @@ public abstract class PotRecipe implements ISimpleRecipe<PotBlockEntity.PotInven
     private static final Output EMPTY_INSTANCE = new Output() {};
     private static final OutputType EMPTY = register(EMPTY_ID, nbt -> EMPTY_INSTANCE);
 
+    public static final FluidItemHashCollection<PotRecipe> CACHE = IndirectHashCollection.createForFluidItemRecipe(PotRecipe::getValidInputFluids, PotRecipe::getValidInputItems, TFCRecipeTypes.POT);
+
+    @Nullable
+    public static PotRecipe getRecipe(PotBlockEntity.PotInventory inventory, Level level)
+    {
+        // Every non-empty input must be matched by one of the recipe's ingredients, so any single input is enough to narrow down the possible recipes
+        Item item = Items.AIR;
+        for (int i = PotBlockEntity.SLOT_EXTRA_INPUT_START; i <= PotBlockEntity.SLOT_EXTRA_INPUT_END; i++)
+        {
+            final ItemStack stack = inventory.getStackInSlot(i);
+            if (!stack.isEmpty())
+            {
+                item = stack.getItem();
+                break;
+            }
+        }
+        for (PotRecipe recipe : CACHE.getAll(inventory.getFluidInTank(0).getFluid(), item))
+        {
+            if (recipe.matches(inventory, level))
+            {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
     /**
      * Register a pot output type.
      * If a pot recipe uses a custom output, that must persist (and thus be serialized), it needs to be registered here.
@@ -119,6 +153,40 @@ public abstract class PotRecipe implements ISimpleRecipe<PotBlockEntity.PotInven
         return itemIngredients;
     }
 
+    /**
+     * @return The fluids which may match the input fluid, used to index recipes.
+     */
+    public Collection<Fluid> getValidInputFluids()
+    {
+        return fluidIngredient.ingredient().fluids();
+    }
+
+    /**
+     * @return The items which may be present in the inputs, used to index recipes, or {@code null} if the recipe may match any item.
+     */
+    @Nullable
+    public Collection<Item> getValidInputItems()
+    {
+        if (itemIngredients.isEmpty())
+        {
+            return List.of(Items.AIR); // Only matches when all inputs are empty
+        }
+        final Set<Item> items = new HashSet<>();
+        for (Ingredient ingredient : itemIngredients)
+        {
+            final ItemStack[] stacks = ingredient.getItems();
+            if (stacks.length == 0)
+            {
+                return null;
+            }
+            for (ItemStack stack : stacks)
+            {
+                items.add(stack.getItem());
+            }
+        }
+        return items;
+    }
+
     /**
      * @return true if the temperature is hot enough to boil
      */
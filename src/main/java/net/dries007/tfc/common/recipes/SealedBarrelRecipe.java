@@ -20,9 +20,19 @@ import net.dries007.tfc.common.recipes.inventory.BarrelInventory;
 import net.dries007.tfc.common.recipes.outputs.ItemStackProvider;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.JsonHelpers;
+import net.dries007.tfc.util.collections.FluidItemHashCollection;
+import net.dries007.tfc.util.collections.IndirectHashCollection;
 
 public class SealedBarrelRecipe extends BarrelRecipe
 {
+    public static final FluidItemHashCollection<SealedBarrelRecipe> CACHE = IndirectHashCollection.createForFluidItemRecipe(SealedBarrelRecipe::getValidInputFluids, SealedBarrelRecipe::getValidInputItems, TFCRecipeTypes.BARREL_SEALED);
+
+    @Nullable
+    public static SealedBarrelRecipe getRecipe(BarrelInventory inventory, @Nullable Level level)
+    {
+        return findRecipe(CACHE, inventory, level);
+    }
+
     private final int duration;
 
     @Nullable private final ItemStackProvider onSeal;
@@ -27,6 +27,11 @@ public class CommonConfig
     public final ForgeConfigSpec.IntValue defaultMonthLength;
     public final ForgeConfigSpec.IntValue defaultCalendarStartDay;
 
+    // World Generation
+    public final ForgeConfigSpec.BooleanValue enableRegionPrefetch;
+    public final ForgeConfigSpec.BooleanValue enableRegionStorage;
+    public final ForgeConfigSpec.BooleanValue enableParallelSurfaceBuilding;
+
     // Debug
     private final ForgeConfigSpec.BooleanValue enableNetworkDebugging;
     private boolean hasLoggedNetworkDebugInfoMessage = false;
@@ -52,6 +57,21 @@ public class CommonConfig
             "The default is (5 * daysInMonth) = 40, which starts at June 1, 1000 (with the default daysInMonth = 8)"
         ).define("defaultCalendarStartDay", (5 * 8), -1, Integer.MAX_VALUE);
 
+        builder.swap("worldgen");
+
+        enableRegionPrefetch = builder.comment(
+            "If enabled, world generation will build neighboring regions in parallel on background threads, rather than one at a time on the thread generating a chunk.",
+            "This reduces latency spikes when generating chunks in previously unexplored areas, i.e. during pre-generation, at the cost of more concurrent work."
+        ).define("enableRegionPrefetch", false);
+        enableRegionStorage = builder.comment(
+            "If enabled, generated regions will be saved to disk in the world save (under data/tfc/regions/<tfc version>), and loaded from there instead of being regenerated after a restart.",
+            "Each region is roughly 1 MB on disk, and covers an area of approximately 12 x 12 km."
+        ).define("enableRegionStorage", true);
+        enableParallelSurfaceBuilding = builder.comment(
+            "If enabled, chunk surfaces (soil, sand, grass, etc.) will be built on background threads along with the rest of the terrain, rather than on the main chunk generation executor.",
+            "Disable this if another mod expects surface building to happen on the main executor."
+        ).define("enableParallelSurfaceBuilding", true);
+
         builder.swap("debug");
 
         enableNetworkDebugging = builder.comment(
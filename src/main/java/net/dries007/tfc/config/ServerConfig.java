@@ -211,6 +211,7 @@ public class ServerConfig
     public final ForgeConfigSpec.DoubleValue collapseExplosionPropagateChance;
     public final ForgeConfigSpec.IntValue collapseMinRadius;
     public final ForgeConfigSpec.IntValue collapseRadiusVariance;
+    public final ForgeConfigSpec.IntValue maxPendingBlockChecksPerTick;
     // Mechanics - Player
     public final ForgeConfigSpec.BooleanValue enablePeacefulDifficultyPassiveRegeneration;
     public final ForgeConfigSpec.DoubleValue passiveExhaustionModifier;
@@ -269,6 +270,8 @@ public class ServerConfig
     public final OviparousAnimalConfig duckConfig;
     public final OviparousAnimalConfig quailConfig;
     public final ForgeConfigSpec.DoubleValue familiarityDecayLimit;
+    public final ForgeConfigSpec.BooleanValue enableAnimalBrainThrottling;
+    public final ForgeConfigSpec.IntValue animalBrainThrottleDistance;
 
     // Below Everything
     public final ForgeConfigSpec.BooleanValue farmlandMakesTheBestRaceTracks;
@@ -576,6 +579,7 @@ public class ServerConfig
         collapseExplosionPropagateChance = builder.comment("Chance for a block to fall from an explosion triggered collapse. Higher = mor likely.").define("collapseExplosionPropagateChance", 0.3, 0, 1);
         collapseMinRadius = builder.comment("Minimum radius for a collapse").define("collapseMinRadius", 3, 1, 32);
         collapseRadiusVariance = builder.comment("Variance of the radius of a collapse. Total size is in [minRadius, minRadius + radiusVariance]").define("collapseRadiusVariance", 16, 1, 32);
+        maxPendingBlockChecksPerTick = builder.comment("The maximum number of pending landslide and isolation checks processed per tick, in each dimension. Any remaining checks are carried over to the next tick. Lower values spread out the cost of large explosions or mining operations over more ticks.").define("maxPendingBlockChecksPerTick", 1024, 1, Integer.MAX_VALUE);
 
         builder.swap("player");
 
@@ -694,6 +698,8 @@ public class ServerConfig
         builder.pop(3);
 
         familiarityDecayLimit = builder.comment("Familiarity value above which familiarity no longer will decay. Default is 0.3, or 30%. Setting it to 0 will cause familiarity to never decay.").define("familiarityDecayLimit", 0.3, 0.0, 1.0);
+        enableAnimalBrainThrottling = builder.comment("If true, idle livestock and prey animals which are far from any player will update their AI less frequently. Animals that are moving, threatened, hurt, being tempted, or were recently interacted with always update every tick.").define("enableAnimalBrainThrottling", true);
+        animalBrainThrottleDistance = builder.comment("The distance, in blocks, from the nearest player, beyond which idle animals update their AI every four ticks. Beyond twice this distance, they update every ten ticks.").define("animalBrainThrottleDistance", 32, 0, 512);
 
         builder.push("weird");
         farmlandMakesTheBestRaceTracks = builder.define("farmlandMakesTheBestRaceTracks", false);
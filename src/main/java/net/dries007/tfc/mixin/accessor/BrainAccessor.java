@@ -0,0 +1,23 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.mixin.accessor;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+@Mixin(Brain.class)
+public interface BrainAccessor
+{
+    @Invoker("forgetOutdatedMemories")
+    void invoke$forgetOutdatedMemories();
+
+    @Invoker("tickSensors")
+    void invoke$tickSensors(ServerLevel level, LivingEntity entity);
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.network.PacketDistributor;
+
+/**
+ * Collects {@link ChunkWatchPacket}s as players watch chunks, and sends them once per server tick, grouped by region as {@link ChunkWatchRegionPacket}s.
+ * Players watch many chunks at once when joining or teleporting, which would otherwise each be sent as an individual packet.
+ * <p>
+ * This is only accessed from the server thread.
+ */
+public final class ChunkWatchBatcher
+{
+    private static final Map<ServerPlayer, Pending> PENDING = new IdentityHashMap<>();
+
+    public static void queue(ServerPlayer player, ChunkWatchPacket packet)
+    {
+        Pending pending = PENDING.get(player);
+        if (pending == null || pending.level != player.level())
+        {
+            // If the player changed dimension since chunks were queued, those must not be applied to the new level on client, so discard them
+            pending = new Pending(player.level(), new Long2ObjectOpenHashMap<>());
+            PENDING.put(player, pending);
+        }
+
+        final int regionX = packet.chunkX() >> ChunkWatchRegionPacket.REGION_BITS, regionZ = packet.chunkZ() >> ChunkWatchRegionPacket.REGION_BITS;
+        pending.regions.computeIfAbsent(ChunkPos.asLong(regionX, regionZ), key -> new ArrayList<>()).add(packet);
+    }
+
+    /**
+     * Discards any pending packet for a chunk which the player has stopped watching, before it is sent. Otherwise, the data would arrive on client after the
+     * chunk has been unloaded, where it would never be consumed.
+     */
+    public static void unqueue(ServerPlayer player, ChunkPos pos)
+    {
+        final Pending pending = PENDING.get(player);
+        if (pending != null)
+        {
+            final long regionKey = ChunkPos.asLong(pos.x >> ChunkWatchRegionPacket.REGION_BITS, pos.z >> ChunkWatchRegionPacket.REGION_BITS);
+            final List<ChunkWatchPacket> packets = pending.regions.get(regionKey);
+            if (packets != null && packets.removeIf(packet -> packet.chunkX() == pos.x && packet.chunkZ() == pos.z) && packets.isEmpty())
+            {
+                pending.regions.remove(regionKey);
+            }
+        }
+    }
+
+    /**
+     * Sends all pending packets. Called at the end of each server tick.
+     */
+    public static void flush()
+    {
+        if (PENDING.isEmpty())
+        {
+            return;
+        }
+
+        for (Map.Entry<ServerPlayer, Pending> entry : PENDING.entrySet())
+        {
+            final ServerPlayer player = entry.getKey();
+            final Pending pending = entry.getValue();
+            if (player.hasDisconnected() || pending.level != player.level())
+            {
+                continue;
+            }
+
+            final PacketDistributor.PacketTarget target = PacketDistributor.PLAYER.with(() -> player);
+            for (Long2ObjectMap.Entry<List<ChunkWatchPacket>> region : pending.regions.long2ObjectEntrySet())
+            {
+                final long key = region.getLongKey();
+                PacketHandler.send(target, new ChunkWatchRegionPacket(ChunkPos.getX(key), ChunkPos.getZ(key), region.getValue()));
+            }
+        }
+        PENDING.clear();
+    }
+
+    record Pending(Level level, Long2ObjectMap<List<ChunkWatchPacket>> regions) {}
+}
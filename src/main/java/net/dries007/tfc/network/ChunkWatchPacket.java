@@ -7,6 +7,7 @@
 package net.dries007.tfc.network;
 
 import net.dries007.tfc.client.ClientHelpers;
+import net.dries007.tfc.client.ClimateTintCache;
 import net.dries007.tfc.world.chunkdata.ChunkData;
 import net.dries007.tfc.world.chunkdata.ForestType;
 import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
@@ -47,8 +48,8 @@ public record ChunkWatchPacket(
         rainfallLayer.encode(buffer);
         temperatureLayer.encode(buffer);
         buffer.writeByte(forestType.ordinal());
-        buffer.writeFloat(forestDensity);
         buffer.writeFloat(forestWeirdness);
+        buffer.writeFloat(forestDensity);
     }
 
     void handle()
@@ -66,6 +67,7 @@ public record ChunkWatchPacket(
             }
 
             data.onUpdatePacket(rainfallLayer, temperatureLayer, forestType, forestDensity, forestWeirdness);
+            ClimateTintCache.INSTANCE.onChunkDataReceived(level, data);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.network.FriendlyByteBuf;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.world.chunkdata.ForestType;
+import net.dries007.tfc.world.chunkdata.LerpFloatLayer;
+
+/**
+ * Sent from server -> client, a batch of {@link ChunkWatchPacket}s for chunks within a single {@link #REGION_SIZE} x {@link #REGION_SIZE} chunk region.
+ * <p>
+ * Chunk positions are sent relative to the region. Climate and forest values are quantized to fixed point shorts, which are far more precise than is
+ * visible on client, and any field which is identical (after quantization) to the previous chunk is omitted, which is common between neighboring chunks.
+ */
+public record ChunkWatchRegionPacket(int regionX, int regionZ, List<ChunkWatchPacket> chunks)
+{
+    public static final int REGION_BITS = 5;
+    public static final int REGION_SIZE = 1 << REGION_BITS;
+
+    private static final int REGION_MASK = REGION_SIZE - 1;
+    private static final int INDEX_BITS = 2 * REGION_BITS;
+
+    private static final int SAME_RAINFALL = 1;
+    private static final int SAME_TEMPERATURE = 1 << 1;
+    private static final int SAME_FOREST = 1 << 2;
+
+    private static final float RAINFALL_SCALE = 10f; // 0.1 mm, in [0, 500]
+    private static final float TEMPERATURE_SCALE = 100f; // 0.01 °C, in roughly [-40, 40]
+    private static final float FOREST_SCALE = 10_000f; // In [0, 1]
+
+    ChunkWatchRegionPacket(FriendlyByteBuf buffer)
+    {
+        this(buffer.readVarInt(), buffer.readVarInt(), new ArrayList<>());
+
+        final int size = buffer.readVarInt();
+        @Nullable ChunkWatchPacket previous = null;
+        for (int i = 0; i < size; i++)
+        {
+            final int header = buffer.readUnsignedShort();
+            final int flags = header >> INDEX_BITS;
+            final int chunkX = (regionX << REGION_BITS) | (header & REGION_MASK);
+            final int chunkZ = (regionZ << REGION_BITS) | ((header >> REGION_BITS) & REGION_MASK);
+
+            final LerpFloatLayer rainfall = previous != null && (flags & SAME_RAINFALL) != 0 ? previous.rainfallLayer() : decodeLayer(buffer, RAINFALL_SCALE);
+            final LerpFloatLayer temperature = previous != null && (flags & SAME_TEMPERATURE) != 0 ? previous.temperatureLayer() : decodeLayer(buffer, TEMPERATURE_SCALE);
+            final ChunkWatchPacket chunk = previous != null && (flags & SAME_FOREST) != 0
+                ? new ChunkWatchPacket(chunkX, chunkZ, rainfall, temperature, previous.forestType(), previous.forestWeirdness(), previous.forestDensity())
+                : new ChunkWatchPacket(chunkX, chunkZ, rainfall, temperature, ForestType.valueOf(buffer.readByte()), decode(buffer, FOREST_SCALE), decode(buffer, FOREST_SCALE));
+
+            chunks.add(chunk);
+            previous = chunk;
+        }
+    }
+
+    void encode(FriendlyByteBuf buffer)
+    {
+        buffer.writeVarInt(regionX);
+        buffer.writeVarInt(regionZ);
+        buffer.writeVarInt(chunks.size());
+
+        @Nullable ChunkWatchPacket previous = null;
+        for (ChunkWatchPacket chunk : chunks)
+        {
+            int flags = 0;
+            if (previous != null)
+            {
+                if (sameLayer(previous.rainfallLayer(), chunk.rainfallLayer(), RAINFALL_SCALE)) flags |= SAME_RAINFALL;
+                if (sameLayer(previous.temperatureLayer(), chunk.temperatureLayer(), TEMPERATURE_SCALE)) flags |= SAME_TEMPERATURE;
+                if (previous.forestType() == chunk.forestType()
+                    && quantize(previous.forestWeirdness(), FOREST_SCALE) == quantize(chunk.forestWeirdness(), FOREST_SCALE)
+                    && quantize(previous.forestDensity(), FOREST_SCALE) == quantize(chunk.forestDensity(), FOREST_SCALE)) flags |= SAME_FOREST;
+            }
+
+            buffer.writeShort((chunk.chunkX() & REGION_MASK) | ((chunk.chunkZ() & REGION_MASK) << REGION_BITS) | (flags << INDEX_BITS));
+            if ((flags & SAME_RAINFALL) == 0) encodeLayer(buffer, chunk.rainfallLayer(), RAINFALL_SCALE);
+            if ((flags & SAME_TEMPERATURE) == 0) encodeLayer(buffer, chunk.temperatureLayer(), TEMPERATURE_SCALE);
+            if ((flags & SAME_FOREST) == 0)
+            {
+                buffer.writeByte(chunk.forestType().ordinal());
+                buffer.writeShort(quantize(chunk.forestWeirdness(), FOREST_SCALE));
+                buffer.writeShort(quantize(chunk.forestDensity(), FOREST_SCALE));
+            }
+            previous = chunk;
+        }
+    }
+
+    void handle()
+    {
+        for (ChunkWatchPacket chunk : chunks)
+        {
+            chunk.handle();
+        }
+    }
+
+    private static boolean sameLayer(LerpFloatLayer previous, LerpFloatLayer layer, float scale)
+    {
+        return quantize(previous.value00(), scale) == quantize(layer.value00(), scale)
+            && quantize(previous.value01(), scale) == quantize(layer.value01(), scale)
+            && quantize(previous.value10(), scale) == quantize(layer.value10(), scale)
+            && quantize(previous.value11(), scale) == quantize(layer.value11(), scale);
+    }
+
+    private static void encodeLayer(FriendlyByteBuf buffer, LerpFloatLayer layer, float scale)
+    {
+        buffer.writeShort(quantize(layer.value00(), scale));
+        buffer.writeShort(quantize(layer.value01(), scale));
+        buffer.writeShort(quantize(layer.value10(), scale));
+        buffer.writeShort(quantize(layer.value11(), scale));
+    }
+
+    private static LerpFloatLayer decodeLayer(FriendlyByteBuf buffer, float scale)
+    {
+        return new LerpFloatLayer(decode(buffer, scale), decode(buffer, scale), decode(buffer, scale), decode(buffer, scale));
+    }
+
+    private static short quantize(float value, float scale)
+    {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(value * scale)));
+    }
+
+    private static float decode(FriendlyByteBuf buffer, float scale)
+    {
+        return buffer.readShort() / scale;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.network;
+
+import java.util.List;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+
+import net.dries007.tfc.common.capabilities.food.FoodTrait;
+
+/**
+ * Syncs the server's food trait network ids, which are used by the compact encoding of food on item stacks, to the client.
+ */
+public record FoodTraitIdsPacket(List<ResourceLocation> traits)
+{
+    FoodTraitIdsPacket(FriendlyByteBuf buffer)
+    {
+        this(buffer.readList(FriendlyByteBuf::readResourceLocation));
+    }
+
+    void encode(FriendlyByteBuf buffer)
+    {
+        buffer.writeCollection(traits, FriendlyByteBuf::writeResourceLocation);
+    }
+
+    void handle()
+    {
+        FoodTrait.setNetworkIds(traits);
+    }
+}
@@ -52,6 +52,7 @@ public final class PacketHandler
     {
         // Server -> Client
         register(ChunkWatchPacket.class, ChunkWatchPacket::encode, ChunkWatchPacket::new, ChunkWatchPacket::handle);
+        register(ChunkWatchRegionPacket.class, ChunkWatchRegionPacket::encode, ChunkWatchRegionPacket::new, ChunkWatchRegionPacket::handle);
         register(CalendarUpdatePacket.class, CalendarUpdatePacket::encode, CalendarUpdatePacket::new, CalendarUpdatePacket::handle);
         register(FoodDataReplacePacket.class, FoodDataReplacePacket::new, FoodDataReplacePacket::handle);
         register(FoodDataUpdatePacket.class, FoodDataUpdatePacket::encode, FoodDataUpdatePacket::new, FoodDataUpdatePacket::handle);
@@ -61,6 +62,12 @@ public final class PacketHandler
         register(UpdateClimateModelPacket.class, UpdateClimateModelPacket::encode, UpdateClimateModelPacket::decode, UpdateClimateModelPacket::handle);
         register(RainfallUpdatePacket.class, RainfallUpdatePacket::encode, RainfallUpdatePacket::new, RainfallUpdatePacket::handle);
 
+        // Handled immediately on the network thread, as item stacks in the packets that follow it are decoded using these ids
+        CHANNEL.registerMessage(ID.getAndIncrement(), FoodTraitIdsPacket.class, FoodTraitIdsPacket::encode, FoodTraitIdsPacket::new, (packet, context) -> {
+            context.get().setPacketHandled(true);
+            packet.handle();
+        });
+
         registerDataManager(Metal.Packet.class, Metal.MANAGER);
         registerDataManager(KnappingType.Packet.class, KnappingType.MANAGER);
         registerDataManager(Fuel.Packet.class, Fuel.MANAGER);
@@ -19,7 +19,6 @@ import net.minecraft.world.item.crafting.RecipeManager;
 
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import net.dries007.tfc.common.recipes.inventory.AlloyInventory;
 
 public class Alloy implements AlloyView
 {
@@ -46,7 +45,6 @@ public class Alloy implements AlloyView
     private int totalUnits;
     private int maxUnits;
 
-    @Nullable private AlloyInventory wrapper; // Lazy, initialized on demand and cached
     @Nullable private Metal cachedResult;
 
     /**
@@ -129,9 +127,9 @@ public class Alloy implements AlloyView
             }
             else
             {
-                cachedResult = AlloyRecipe.get(recipes, getWrapper())
-                    .map(AlloyRecipe::getResult)
-                    .orElseGet(Metal::unknown);
+                // Recipes are matched against AlloyRecipe.CACHE, which is reloaded from the active recipe manager, not from recipes
+                final AlloyRecipe recipe = AlloyRecipe.get(this);
+                cachedResult = recipe != null ? recipe.getResult() : Metal.unknown();
             }
         }
         if (cachedResult == null)
@@ -173,10 +171,18 @@ public class Alloy implements AlloyView
                     resultMap.put(entry.getKey(), entry.getDoubleValue() - remove);
                 }
             }
+            // Removing the same proportion of each metal does not change the composition, so unless a metal was removed entirely, the result is unchanged
+            final boolean sameMetals = resultMap.size() == metalMap.size();
+            final Metal result = cachedResult;
+
             totalUnits -= removeAmount;
             metalMap.clear();
             metalMap.putAll(resultMap);
             updateCaches();
+            if (sameMetals)
+            {
+                cachedResult = result;
+            }
             return removeAmount;
         }
     }
@@ -199,6 +205,32 @@ public class Alloy implements AlloyView
         return sanitizedMetalMap;
     }
 
+    /**
+     * @return All metals in the alloy, including trace amounts which are excluded from {@link #getMetals()}. This is a view, and must not be modified.
+     */
+    public Set<Metal> getAllMetals()
+    {
+        return metalMap.keySet();
+    }
+
+    /**
+     * @return The metals which would be in the alloy, excluding trace amounts, if all of {@code removed} was removed. This is consistent with how
+     * {@link #matches(AlloyRecipe)} treats an alloy which already contains some of the result of the recipe.
+     */
+    public Set<Metal> getMetalsWithout(Metal removed)
+    {
+        final double actualTotalAmount = getExactAmount() - metalMap.getDouble(removed);
+        final Set<Metal> metals = new HashSet<>();
+        for (Object2DoubleMap.Entry<Metal> entry : metalMap.object2DoubleEntrySet())
+        {
+            if (entry.getKey() != removed && entry.getDoubleValue() > actualTotalAmount * EPSILON)
+            {
+                metals.add(entry.getKey());
+            }
+        }
+        return metals;
+    }
+
     public CompoundTag serializeNBT()
     {
         CompoundTag nbt = new CompoundTag();
@@ -287,15 +319,6 @@ public class Alloy implements AlloyView
         return metalMap.values().doubleStream().sum();
     }
 
-    private AlloyInventory getWrapper()
-    {
-        if (wrapper == null)
-        {
-            wrapper = new AlloyInventory(this);
-        }
-        return wrapper;
-    }
-
     private boolean matchesExactly(AlloyRecipe recipe)
     {
         final Object2DoubleMap<Metal> metals = getMetals();
@@ -304,7 +327,6 @@ public class Alloy implements AlloyView
 
         // Check each range in the recipe
         // The metal must be present, and we must match the range within the range
-        final Set<Metal> extraInputs = new HashSet<>(metals.keySet());
         for (Map.Entry<DataManager.Reference<Metal>, AlloyRecipe.Range> entry : ranges.entrySet())
         {
             final Metal metal = entry.getKey().get();
@@ -312,20 +334,33 @@ public class Alloy implements AlloyView
             {
                 return false;
             }
-
-            // Account for this input being in the recipe for the alloy
-            extraInputs.remove(metal);
         }
 
         // Any excess inputs must be less than epsilon - otherwise it's extra junk that shouldn't be in the alloy
-        for (Metal metal : extraInputs)
+        // Every input of the recipe is present, so there are only excess inputs if there are more metals than inputs
+        if (metals.size() > ranges.size())
         {
-            if (metals.getDouble(metal) / actualTotalAmount > EPSILON)
+            for (Object2DoubleMap.Entry<Metal> entry : metals.object2DoubleEntrySet())
             {
-                return false;
+                if (entry.getDoubleValue() / actualTotalAmount > EPSILON && !isInput(ranges, entry.getKey()))
+                {
+                    return false;
+                }
             }
         }
 
         return true;
     }
+
+    private static boolean isInput(Map<DataManager.Reference<Metal>, AlloyRecipe.Range> ranges, Metal metal)
+    {
+        for (DataManager.Reference<Metal> input : ranges.keySet())
+        {
+            if (input.get() == metal)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
 }
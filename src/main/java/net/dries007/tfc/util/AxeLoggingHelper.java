@@ -8,14 +8,22 @@ package net.dries007.tfc.util;
 
 import java.util.*;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LevelEvent;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.EnumProperty;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraftforge.items.ItemHandlerHelper;
 
 import net.dries007.tfc.common.TFCTags;
 import net.dries007.tfc.common.blocks.TFCBlockStateProperties;
@@ -35,6 +43,11 @@ public class AxeLoggingHelper
     public static void doLogging(LevelAccessor level, BlockPos pos, Player player, ItemStack axe)
     {
         final boolean inefficient = Helpers.isItem(axe, TFCTags.Items.INEFFICIENT_LOGGING_AXES);
+        if (level instanceof ServerLevel serverLevel)
+        {
+            fellTree(serverLevel, pos, findPackedLogs(level, pos), player, axe, inefficient);
+            return;
+        }
         for (BlockPos log : findLogs(level, pos))
         {
             level.destroyBlock(log, !inefficient || level.getRandom().nextFloat() < 0.6f, player);
@@ -48,14 +61,29 @@ public class AxeLoggingHelper
 
     public static List<BlockPos> findLogs(LevelAccessor level, BlockPos pos)
     {
-        final Set<BlockPos> seen = new HashSet<>(64);
-        final List<BlockPos> logs = new ArrayList<>(16);
+        final LongArrayList packedLogs = findPackedLogs(level, pos);
+        final List<BlockPos> logs = new ArrayList<>(packedLogs.size());
+        for (int i = 0; i < packedLogs.size(); i++)
+        {
+            logs.add(BlockPos.of(packedLogs.getLong(i)));
+        }
+        return logs;
+    }
+
+    /**
+     * Finds all logs connected to {@code pos}, as packed positions, ordered from the furthest from {@code pos}, to {@code pos} itself.
+     */
+    public static LongArrayList findPackedLogs(LevelAccessor level, BlockPos pos)
+    {
+        final LongSet seen = new LongOpenHashSet(64);
+        final LongArrayList logs = new LongArrayList(16);
+        final BlockPos.MutableBlockPos log = new BlockPos.MutableBlockPos();
         final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
 
-        logs.add(pos);
+        logs.add(pos.asLong());
         for (int i = 0; i < logs.size(); i++)
         {
-            final BlockPos log = logs.get(i);
+            log.set(logs.getLong(i));
             for (int dx = -1; dx <= 1; dx++)
             {
                 for (int dy = -1; dy <= 1; dy++)
@@ -63,14 +91,14 @@ public class AxeLoggingHelper
                     for (int dz = -1; dz <= 1; dz++)
                     {
                         cursor.setWithOffset(log, dx, dy, dz);
-                        if (!seen.contains(cursor))
+                        final long cursorPos = cursor.asLong();
+                        if (!seen.contains(cursorPos))
                         {
-                            final BlockPos cursorPos = cursor.immutable();
-                            final BlockState cursorState = level.getBlockState(cursorPos);
+                            final BlockState cursorState = level.getBlockState(cursor);
 
                             if (isLoggingBlock(cursorState))
                             {
-                                if (isConnected(log, cursorPos, cursorState))
+                                if (isConnected(log, cursor, cursorState))
                                 {
                                     logs.add(cursorPos);
                                     seen.add(cursorPos); // For connected logs, mark them as seen as we add them to the queue
@@ -88,7 +116,13 @@ public class AxeLoggingHelper
             }
         }
 
-        Collections.reverse(logs);
+        // Reverse, so the furthest logs are first
+        for (int i = 0, j = logs.size() - 1; i < j; i++, j--)
+        {
+            final long swap = logs.getLong(i);
+            logs.set(i, logs.getLong(j));
+            logs.set(j, swap);
+        }
         return logs;
     }
 
@@ -127,6 +161,108 @@ public class AxeLoggingHelper
         return isLoggingTrunk(level.getBlockState(pos.relative(first))) || isLoggingTrunk(level.getBlockState(pos.relative(second)));
     }
 
+    /**
+     * Removes all logs of a tree at once, rather than destroying each log individually.
+     * <ul>
+     *     <li>Drops are merged into as few stacks as possible, and dropped at the base of the tree, instead of one item entity per log.</li>
+     *     <li>Logs are removed without updating their neighbors. Once all logs are removed, only positions next to the tree are updated (i.e. leaves, or
+     *     the ground), as updates between logs which are also being removed have no effect.</li>
+     *     <li>Lighting is unchanged, and is still updated for each log removed.</li>
+     *     <li>Block changes are sent to clients as a batch per chunk section, at the end of the tick, and the break effect is only played for the
+     *     first log broken.</li>
+     * </ul>
+     */
+    private static void fellTree(ServerLevel level, BlockPos origin, LongArrayList logs, Player player, ItemStack axe, boolean inefficient)
+    {
+        final List<ItemStack> drops = new ArrayList<>();
+        final LongArrayList removed = new LongArrayList(logs.size());
+        final LongSet removedSet = new LongOpenHashSet(logs.size());
+
+        for (int i = 0; i < logs.size(); i++)
+        {
+            final BlockPos log = BlockPos.of(logs.getLong(i));
+            final BlockState state = level.getBlockState(log);
+            if (state.isAir())
+            {
+                continue;
+            }
+
+            if (!inefficient || level.getRandom().nextFloat() < 0.6f)
+            {
+                for (ItemStack drop : Block.getDrops(state, level, log, level.getBlockEntity(log), player, axe))
+                {
+                    mergeDrop(drops, drop);
+                }
+                state.spawnAfterBreak(level, log, axe, true);
+            }
+            if (removed.isEmpty())
+            {
+                level.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, log, Block.getId(state));
+            }
+
+            level.setBlock(log, level.getFluidState(log).createLegacyBlock(), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+            level.gameEvent(GameEvent.BLOCK_DESTROY, log, GameEvent.Context.of(player, state));
+            removed.add(log.asLong());
+            removedSet.add(log.asLong());
+
+            axe.hurtAndBreak(1, player, p -> p.broadcastBreakEvent(InteractionHand.MAIN_HAND));
+            if (axe.isEmpty())
+            {
+                break; // stop breaking if the axe is broken
+            }
+        }
+
+        // Update the shape of all blocks adjacent to the tree which were not themselves removed, and notify them through the level, so neighbor
+        // notify events fire as they would when breaking each log (i.e. for landslides and isolation checks)
+        for (int i = 0; i < removed.size(); i++)
+        {
+            final BlockPos pos = BlockPos.of(removed.getLong(i));
+            final BlockState state = level.getBlockState(pos);
+            boolean bordersTree = false;
+            for (Direction direction : Helpers.DIRECTIONS)
+            {
+                final BlockPos adjacentPos = pos.relative(direction);
+                if (!removedSet.contains(adjacentPos.asLong()))
+                {
+                    final BlockState adjacentState = level.getBlockState(adjacentPos);
+                    final BlockState updatedState = adjacentState.updateShape(direction.getOpposite(), state, level, adjacentPos, pos);
+                    Block.updateOrDestroy(adjacentState, updatedState, level, adjacentPos, Block.UPDATE_CLIENTS);
+                    bordersTree = true;
+                }
+            }
+            if (bordersTree)
+            {
+                level.updateNeighborsAt(pos, state.getBlock());
+            }
+        }
+
+        for (ItemStack drop : drops)
+        {
+            Block.popResource(level, origin, drop);
+        }
+    }
+
+    private static void mergeDrop(List<ItemStack> drops, ItemStack drop)
+    {
+        for (ItemStack existing : drops)
+        {
+            if (drop.isEmpty())
+            {
+                return;
+            }
+            if (existing.getCount() < existing.getMaxStackSize() && ItemHandlerHelper.canItemStacksStack(existing, drop))
+            {
+                final int amount = Math.min(drop.getCount(), existing.getMaxStackSize() - existing.getCount());
+                existing.grow(amount);
+                drop.shrink(amount);
+            }
+        }
+        if (!drop.isEmpty())
+        {
+            drops.add(drop);
+        }
+    }
+
     private static boolean isConnected(BlockPos rootPos, BlockPos branchPos, BlockState branchState)
     {
         if (branchState.hasProperty(BRANCH_DIRECTION))
@@ -34,6 +34,7 @@ import net.minecraftforge.common.crafting.CraftingHelper;
 import net.minecraftforge.common.crafting.conditions.ICondition;
 import net.minecraftforge.network.NetworkEvent;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 
 import net.dries007.tfc.network.DataManagerSyncPacket;
@@ -132,6 +133,15 @@ public class DataManager<T> extends SimpleJsonResourceReloadListener
         return ref;
     }
 
+    /**
+     * Creates a reference which is bound to {@code value}, independent of any manager, for use in tests and benchmarks where managers are not loaded.
+     */
+    @VisibleForTesting
+    public static <T> Reference<T> bound(ResourceLocation id, T value)
+    {
+        return new Reference<>(id, value);
+    }
+
     public Set<T> getValues()
     {
         return types.values();
@@ -17,23 +17,18 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.blockentities.FarmlandBlockEntity;
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ResolvedCache;
 
 public class Fertilizer extends ItemDefinition
 {
     public static final DataManager<Fertilizer> MANAGER = new DataManager<>(Helpers.identifier("fertilizers"), "fertilizer", Fertilizer::new, Fertilizer::new, Fertilizer::encode, Packet::new);
     public static final IndirectHashCollection<Item, Fertilizer> CACHE = IndirectHashCollection.create(Fertilizer::getValidItems, MANAGER::getValues);
+    public static final ResolvedCache<Item, ItemStack, Fertilizer> RESOLVED_CACHE = ResolvedCache.forItems(CACHE);
 
     @Nullable
     public static Fertilizer get(ItemStack stack)
     {
-        for (Fertilizer def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return RESOLVED_CACHE.get(stack.getItem(), stack);
     }
 
     private final float nitrogen, phosphorus, potassium;
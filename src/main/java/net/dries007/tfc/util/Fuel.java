@@ -16,24 +16,19 @@ import net.minecraft.world.item.crafting.Ingredient;
 
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ResolvedCache;
 import org.jetbrains.annotations.Nullable;
 
 public final class Fuel extends ItemDefinition
 {
     public static final DataManager<Fuel> MANAGER = new DataManager<>(Helpers.identifier("fuels"), "fuel", Fuel::new, Fuel::new, Fuel::encode, Packet::new);
     public static final IndirectHashCollection<Item, Fuel> CACHE = IndirectHashCollection.create(Fuel::getValidItems, MANAGER::getValues);
+    public static final ResolvedCache<Item, ItemStack, Fuel> RESOLVED_CACHE = ResolvedCache.forItems(CACHE);
 
     @Nullable
     public static Fuel get(ItemStack stack)
     {
-        for (Fuel def : CACHE.getAll(stack.getItem()))
-        {
-            if (def.matches(stack))
-            {
-                return def;
-            }
-        }
-        return null;
+        return RESOLVED_CACHE.get(stack.getItem(), stack);
     }
 
     private final int duration;
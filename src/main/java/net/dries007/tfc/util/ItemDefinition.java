@@ -42,6 +42,15 @@ public class ItemDefinition
         return ingredient.test(stack);
     }
 
+    /**
+     * @return {@code true} if this definition matches a stack based only on its item, and not i.e. its NBT or count, meaning the result of
+     * {@link #matches(ItemStack)} may be cached per item.
+     */
+    public boolean dependsOnlyOnItem()
+    {
+        return ingredient.isSimple() && !ingredient.isEmpty();
+    }
+
     public Collection<Item> getValidItems()
     {
         return Arrays.stream(ingredient.getItems()).map(ItemStack::getItem).collect(Collectors.toSet());
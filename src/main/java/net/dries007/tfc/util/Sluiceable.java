@@ -16,23 +16,18 @@ import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ResolvedCache;
 
 public class Sluiceable extends ItemDefinition
 {
     public static final DataManager<Sluiceable> MANAGER = new DataManager<>(Helpers.identifier("sluicing"), "sluicing", Sluiceable::new, Sluiceable::new, Sluiceable::encode, Sluiceable.Packet::new);
     public static final IndirectHashCollection<Item, Sluiceable> CACHE = IndirectHashCollection.create(Sluiceable::getValidItems, MANAGER::getValues);
+    public static final ResolvedCache<Item, ItemStack, Sluiceable> RESOLVED_CACHE = ResolvedCache.forItems(CACHE);
 
     @Nullable
     public static Sluiceable get(ItemStack item)
     {
-        for (Sluiceable sluiceable : CACHE.getAll(item.getItem()))
-        {
-            if (sluiceable.matches(item))
-            {
-                return sluiceable;
-            }
-        }
-        return null;
+        return RESOLVED_CACHE.get(item.getItem(), item);
     }
 
     private final ResourceLocation lootTable;
@@ -6,28 +6,42 @@
 
 package net.dries007.tfc.util;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import org.jetbrains.annotations.Nullable;
 
 import net.dries007.tfc.common.recipes.ingredients.BlockIngredient;
 import net.dries007.tfc.network.DataManagerSyncPacket;
 import net.dries007.tfc.util.collections.IndirectHashCollection;
+import net.dries007.tfc.util.collections.ResolvedCache;
 
 public final class Support
 {
     public static final DataManager<Support> MANAGER = new DataManager<>(Helpers.identifier("supports"), "support", Support::new, Support::new, Support::encode, Packet::new);
     public static final IndirectHashCollection<Block, Support> CACHE = IndirectHashCollection.create(s -> s.ingredient.blocks(), MANAGER::getValues);
 
+    /**
+     * A cache of {@link #get(BlockState)}, as it is queried for every block in a volume when checking for collapses. Supports match only on the block state,
+     * so every result may be cached.
+     */
+    public static final ResolvedCache<BlockState, BlockState, Support> RESOLVED_CACHE = ResolvedCache.create(state -> CACHE.getAll(state.getBlock()), Support::matches, support -> true);
+
     /**
      * The maximum range of all supports, used for support radius checks.
      */
@@ -44,48 +58,62 @@ public final class Support
     /**
      * Finds all unsupported positions in a large area. It's more efficient than checking each block individually and calling {@link Support#isSupported(BlockGetter, BlockPos)}
      */
-    public static Set<BlockPos> findUnsupportedPositions(BlockGetter worldIn, BlockPos from, BlockPos to)
-    {
-        Set<BlockPos> listSupported = new HashSet<>();
-        Set<BlockPos> listUnsupported = new HashSet<>();
-        int minX = Math.min(from.getX(), to.getX());
-        int maxX = Math.max(from.getX(), to.getX());
-        int minY = Math.min(from.getY(), to.getY());
-        int maxY = Math.max(from.getY(), to.getY());
-        int minZ = Math.min(from.getZ(), to.getZ());
-        int maxZ = Math.max(from.getZ(), to.getZ());
-        for (BlockPos searchingPoint : getMaximumSupportedAreaAround(new BlockPos(minX, minY, minZ), new BlockPos(maxX, maxY, maxZ)))
-        {
-            if (!listSupported.contains(searchingPoint))
-            {
-                listUnsupported.add(searchingPoint.immutable()); // Adding blocks that wasn't found supported
-            }
-            final BlockState supportState = worldIn.getBlockState(searchingPoint);
-            final Support support = get(supportState);
-            if (support != null)
+    public static Set<BlockPos> findUnsupportedPositions(BlockGetter level, BlockPos from, BlockPos to)
+    {
+        final int minX = Math.min(from.getX(), to.getX());
+        final int maxX = Math.max(from.getX(), to.getX());
+        final int minY = Math.min(from.getY(), to.getY());
+        final int maxY = Math.max(from.getY(), to.getY());
+        final int minZ = Math.min(from.getZ(), to.getZ());
+        final int maxZ = Math.max(from.getZ(), to.getZ());
+
+        // Supported positions, indexed in x, then z, then y order, within the queried area
+        final int sizeX = 1 + maxX - minX, sizeZ = 1 + maxZ - minZ, size = sizeX * sizeZ * (1 + maxY - minY);
+        final BitSet supported = new BitSet(size);
+        final SupportRange range = RANGE;
+
+        forEachSupport(level, minX - range.horizontal(), minY - range.down(), minZ - range.horizontal(), maxX + range.horizontal(), maxY + range.up(), maxZ + range.horizontal(), (support, x, y, z) -> {
+            // Mark the intersection of the supported area with the queried area
+            final int x0 = Math.max(minX, x - support.supportHorizontal), x1 = Math.min(maxX, x + support.supportHorizontal);
+            final int y0 = Math.max(minY, y - support.supportDown), y1 = Math.min(maxY, y + support.supportUp);
+            final int z0 = Math.max(minZ, z - support.supportHorizontal), z1 = Math.min(maxZ, z + support.supportHorizontal);
+            if (x0 <= x1)
             {
-                for (BlockPos supported : support.getSupportedArea(searchingPoint))
+                for (int supportedY = y0; supportedY <= y1; supportedY++)
                 {
-                    listSupported.add(supported.immutable()); // Adding all supported blocks by this support
-                    listUnsupported.remove(supported); // Remove if this block was added earlier
+                    for (int supportedZ = z0; supportedZ <= z1; supportedZ++)
+                    {
+                        final int index = (x0 - minX) + sizeX * ((supportedZ - minZ) + sizeZ * (supportedY - minY));
+                        supported.set(index, index + 1 + x1 - x0);
+                    }
                 }
             }
+        });
+
+        final Set<BlockPos> unsupported = new HashSet<>();
+        for (int index = supported.nextClearBit(0); index < size; index = supported.nextClearBit(index + 1))
+        {
+            unsupported.add(new BlockPos(minX + index % sizeX, minY + index / (sizeX * sizeZ), minZ + (index / sizeX) % sizeZ));
         }
-        // Searching point wasn't from points between from <-> to but
-        // Time to remove the outsides that were added for convenience
-        listUnsupported.removeIf(content -> content.getX() < minX || content.getX() > maxX || content.getY() < minY || content.getY() > maxY || content.getZ() < minZ || content.getZ() > maxZ);
-        return listUnsupported;
+        return unsupported;
     }
 
-    public static boolean isSupported(BlockGetter world, BlockPos pos)
+    public static boolean isSupported(BlockGetter level, BlockPos pos)
     {
-        for (BlockPos supportPos : getMaximumSupportedAreaAround(pos, pos))
+        final SupportRange range = RANGE;
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int x = pos.getX() - range.horizontal(); x <= pos.getX() + range.horizontal(); x++)
         {
-            final BlockState supportState = world.getBlockState(supportPos);
-            final Support support = get(supportState);
-            if (support != null && support.canSupport(supportPos, pos))
+            for (int y = pos.getY() - range.down(); y <= pos.getY() + range.up(); y++)
             {
-                return true;
+                for (int z = pos.getZ() - range.horizontal(); z <= pos.getZ() + range.horizontal(); z++)
+                {
+                    final Support support = get(level.getBlockState(cursor.set(x, y, z)));
+                    if (support != null && support.canSupport(cursor, pos))
+                    {
+                        return true;
+                    }
+                }
             }
         }
         return false;
@@ -99,14 +127,59 @@ public final class Support
     @Nullable
     public static Support get(BlockState state)
     {
-        for (Support support : CACHE.getAll(state.getBlock()))
+        return RESOLVED_CACHE.get(state, state);
+    }
+
+    /**
+     * Iterates all supports within a volume. Where possible, this reads block states directly from chunk sections, skipping sections which are empty.
+     */
+    private static void forEachSupport(BlockGetter level, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, SupportConsumer action)
+    {
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        final boolean airIsSupport = get(Blocks.AIR.defaultBlockState()) != null;
+
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++)
         {
-            if (support.matches(state))
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++)
             {
-                return support;
+                final @Nullable ChunkAccess chunk = level instanceof LevelReader reader ? reader.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false) : null;
+                final int x0 = Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)), x1 = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15));
+                final int z0 = Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)), z1 = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15));
+
+                for (int y = minY; y <= maxY; y++)
+                {
+                    @Nullable LevelChunkSection section = null;
+                    if (chunk != null && !chunk.isOutsideBuildHeight(y))
+                    {
+                        section = chunk.getSection(chunk.getSectionIndex(y));
+                        if (section.hasOnlyAir() && !airIsSupport)
+                        {
+                            y |= 15; // Skip to the top of this section
+                            continue;
+                        }
+                    }
+
+                    BlockState lastState = null;
+                    Support lastSupport = null;
+                    for (int z = z0; z <= z1; z++)
+                    {
+                        for (int x = x0; x <= x1; x++)
+                        {
+                            final BlockState state = section != null ? section.getBlockState(x & 15, y & 15, z & 15) : level.getBlockState(cursor.set(x, y, z));
+                            if (state != lastState)
+                            {
+                                lastState = state;
+                                lastSupport = get(state);
+                            }
+                            if (lastSupport != null)
+                            {
+                                action.accept(lastSupport, x, y, z);
+                            }
+                        }
+                    }
+                }
             }
         }
-        return null;
     }
 
     public static void updateMaximumSupportRange()
@@ -199,5 +272,11 @@ public final class Support
 
     public record SupportRange(int up, int down, int horizontal) {}
 
+    @FunctionalInterface
+    interface SupportConsumer
+    {
+        void accept(Support support, int x, int y, int z);
+    }
+
     public static class Packet extends DataManagerSyncPacket<Support> {}
 }
\ No newline at end of file
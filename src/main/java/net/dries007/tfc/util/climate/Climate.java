@@ -6,14 +6,19 @@
 
 package net.dries007.tfc.util.climate;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.WorldGenLevel;
@@ -45,6 +50,11 @@ public final class Climate
 {
     private static final BiMap<ResourceLocation, ClimateModelType> REGISTRY = HashBiMap.create();
 
+    /**
+     * Temperature timelines, by level and chunk, which are shared for the duration of a single server tick. Only accessed from the server thread.
+     */
+    private static final Map<Level, Long2ObjectMap<TemperatureTimeline>> TEMPERATURE_TIMELINES = new IdentityHashMap<>();
+
     /**
      * Register a new climate model factory.
      * The supplier should return a <strong>new instance</strong> each time it is invoked, as it may be used for multiple dimensions.
@@ -87,6 +97,29 @@ public final class Climate
         return getTemperature(level, pos, Calendars.get(level));
     }
 
+    /**
+     * Gets a timeline for querying the temperature in the chunk containing {@code pos}, at many points in time. On server, timelines are shared by all
+     * queries in the same chunk during a single tick, i.e. when all crops in a chunk catch up on growth as the chunk is loaded.
+     */
+    public static TemperatureTimeline getTemperatureTimeline(Level level, BlockPos pos)
+    {
+        final ClimateModel model = model(level);
+        if (level.isClientSide())
+        {
+            return model.createTemperatureTimeline(level, pos);
+        }
+        return TEMPERATURE_TIMELINES.computeIfAbsent(level, key -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(ChunkPos.asLong(pos), key -> model.createTemperatureTimeline(level, pos));
+    }
+
+    /**
+     * Discards all temperature timelines. Called at the end of each server tick, as they hold onto chunk data.
+     */
+    public static void clearTemperatureTimelines()
+    {
+        TEMPERATURE_TIMELINES.clear();
+    }
+
     public static float getAverageTemperature(Level level, BlockPos pos)
     {
         return model(level).getAverageTemperature(level, pos);
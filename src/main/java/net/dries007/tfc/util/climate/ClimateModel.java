@@ -41,6 +41,15 @@ public interface ClimateModel
      */
     float getTemperature(LevelReader level, BlockPos pos, long calendarTicks, int daysInMonth);
 
+    /**
+     * Creates a timeline for querying the temperature within a chunk, at many points in time. Models may override this to share work between queries,
+     * i.e. values which only depend on the day, or on the chunk.
+     */
+    default TemperatureTimeline createTemperatureTimeline(LevelReader level, BlockPos pos)
+    {
+        return (queryPos, calendarTicks, daysInMonth) -> getTemperature(level, queryPos, calendarTicks, daysInMonth);
+    }
+
     /**
      * Get the average annual temperature for a given position.
      *
@@ -6,10 +6,14 @@
 
 package net.dries007.tfc.util.climate;
 
+import java.util.Arrays;
 import java.util.Random;
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.LinearCongruentialGenerator;
@@ -123,6 +127,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
 
     private long climateSeed = 0;
     private float temperatureScale = 20_000f;
+    private final DailyClimate[] dailyClimates = new DailyClimate[2]; // Indexed by the parity of the day, as fog and wind may query adjacent days
 
     // For world generation climate
     private Noise2D snowPatchNoise = (x, z) -> 0;
@@ -137,8 +142,19 @@ public class OverworldClimateModel implements WorldGenClimateModel
         return adjustTemperatureByElevation(y, averageTemperature, monthlyTemperature, 0);
     }
 
+    /**
+     * Subclasses should override {@link #getTemperature(BlockPos, ChunkData, long, int, float)} instead, which is also used by {@link #createTemperatureTimeline}.
+     */
     @Override
     public float getTemperature(@Nullable LevelReader level, BlockPos pos, ChunkData data, long calendarTicks, int daysInMonth)
+    {
+        return getTemperature(pos, data, calendarTicks, daysInMonth, calculateDailyVariation(ICalendar.getTotalDays(calendarTicks)));
+    }
+
+    /**
+     * Calculates the temperature at a position and time, given the daily variation for the day of {@code calendarTicks}, which is expensive to compute.
+     */
+    protected float getTemperature(BlockPos pos, ChunkData data, long calendarTicks, int daysInMonth, float dailyVariation)
     {
         // Month temperature
         final Month currentMonth = ICalendar.getMonthOfYear(calendarTicks, daysInMonth);
@@ -146,11 +162,52 @@ public class OverworldClimateModel implements WorldGenClimateModel
         final float monthFactor = Mth.lerp(delta, currentMonth.getTemperatureModifier(), currentMonth.next().getTemperatureModifier());
 
         final float monthTemperature = calculateMonthlyTemperature(pos.getZ(), monthFactor);
-        final float dailyTemperature = calculateDailyTemperature(calendarTicks);
+        final float dailyTemperature = calculateDailyTemperature(calendarTicks, dailyVariation);
 
         return adjustTemperatureByElevation(pos.getY(), data.getAverageTemp(pos), monthTemperature, dailyTemperature);
     }
 
+    /**
+     * The timeline queries chunk data once, and computes the daily temperature variation once per day, which otherwise requires constructing a new
+     * {@link Random} for every query.
+     */
+    @Override
+    public TemperatureTimeline createTemperatureTimeline(LevelReader level, BlockPos pos)
+    {
+        return createTemperatureTimeline(level, ChunkData.get(level, pos), SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+    }
+
+    /**
+     * Creates a timeline for the chunk of {@code data}, which does not need to be attached to a loaded chunk, i.e. on client, where chunk data may be
+     * received before the chunk itself.
+     */
+    public TemperatureTimeline createTemperatureTimeline(LevelReader level, ChunkData data)
+    {
+        return createTemperatureTimeline(level, data, data.getPos().x, data.getPos().z);
+    }
+
+    private TemperatureTimeline createTemperatureTimeline(LevelReader level, ChunkData data, int chunkX, int chunkZ)
+    {
+        final Long2FloatMap dailyVariations = new Long2FloatOpenHashMap();
+        dailyVariations.defaultReturnValue(Float.NaN);
+
+        return (queryPos, calendarTicks, daysInMonth) -> {
+            if (SectionPos.blockToSectionCoord(queryPos.getX()) != chunkX || SectionPos.blockToSectionCoord(queryPos.getZ()) != chunkZ)
+            {
+                return getTemperature(level, queryPos, calendarTicks, daysInMonth);
+            }
+
+            final long day = ICalendar.getTotalDays(calendarTicks);
+            float dailyVariation = dailyVariations.get(day);
+            if (Float.isNaN(dailyVariation))
+            {
+                dailyVariation = calculateDailyVariation(day);
+                dailyVariations.put(day, dailyVariation);
+            }
+            return getTemperature(queryPos, data, calendarTicks, daysInMonth, dailyVariation);
+        };
+    }
+
     @Override
     public float getAverageTemperature(LevelReader level, BlockPos pos)
     {
@@ -169,14 +226,12 @@ public class OverworldClimateModel implements WorldGenClimateModel
     {
         // seed as if we're 2 hours in the future, in order to start the cycle at 4am (2 hours before sunrise)
         final long day = ICalendar.getTotalDays(calendarTime + (2 * ICalendar.TICKS_IN_HOUR));
-        final Random random = seededRandom(day, 129341623413L);
-        if (random.nextInt(FOGGY_DAY_RARITY) != 0)
+        final float fogModifier = getDailyClimate(day).fogModifier(); // untransformed value of the fog
+        if (fogModifier == 0)
         {
             return 0;
         }
 
-        final float fogModifier = random.nextFloat(); // untransformed value of the fog
-
         final long dayTime = Calendars.get(level).getCalendarDayTime();
         float scaledTime; // a value between 0 and 1
         if (dayTime > 22000) // 4am to 6am
@@ -219,7 +274,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
         final int y = pos.getY();
         if (y < SEA_LEVEL - 6)
             return Vec2.ZERO;
-        final Random random = seededRandom(ICalendar.getTotalDays(calendarTime), 129341623413L);
+        final DailyClimate climate = getDailyClimate(ICalendar.getTotalDays(calendarTime));
 
         final Holder<Biome> biome = level.getBiome(pos);
         if (biome.is(TFCTags.Biomes.HAS_PREDICTABLE_WINDS))
@@ -229,7 +284,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
             final boolean oddBand = pos.getZ() < 0 ?
                 pos.getZ() % (windScale * 2) < windScale :
                 pos.getZ() % (windScale * 2) > windScale;
-            final float intensity = random.nextFloat() * 0.3f + 0.3f + (0.4f * level.getRainLevel(0f));
+            final float intensity = climate.predictableWindIntensity() + (0.4f * level.getRainLevel(0f));
             float angle;
             if (isDay && oddBand)
                 angle = Mth.PI / 4;
@@ -239,15 +294,14 @@ public class OverworldClimateModel implements WorldGenClimateModel
                 angle = 5 * Mth.PI / 4;
             else
                 angle = 3 * Mth.PI / 4;
-            angle += random.nextFloat() * 0.2f - 0.1f;
+            angle += climate.predictableWindAngleOffset();
             return new Vec2(Mth.cos(angle), Mth.sin(angle)).scale(intensity);
         }
 
-        final float preventFrequentWindyDays = random.nextFloat() < 0.1f ? 1f : random.nextFloat();
-        final float intensity = Math.min(0.5f * random.nextFloat() * preventFrequentWindyDays
+        final float intensity = Math.min(climate.windIntensity()
             + 0.4f * Mth.clampedMap(y, SEA_LEVEL, SEA_LEVEL + 65, 0f, 1f)
             + 0.6f * level.getRainLevel(0f), 1f);
-        final float angle = random.nextFloat() * Mth.TWO_PI;
+        final float angle = climate.windAngle();
         return new Vec2(Mth.cos(angle), Mth.sin(angle)).scale(intensity);
     }
 
@@ -371,6 +425,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
 
         temperatureScale = extension.settings().temperatureScale();
         climateSeed = LinearCongruentialGenerator.next(level.getSeed(), 719283741234L);
+        Arrays.fill(dailyClimates, null);
 
         updateNoise();
     }
@@ -387,6 +442,7 @@ public class OverworldClimateModel implements WorldGenClimateModel
     {
         temperatureScale = buffer.readFloat();
         climateSeed = buffer.readLong();
+        Arrays.fill(dailyClimates, null);
     }
 
     protected void updateNoise()
@@ -440,6 +496,14 @@ public class OverworldClimateModel implements WorldGenClimateModel
      * Range: -3.9 - 3.9
      */
     protected float calculateDailyTemperature(long calendarTime)
+    {
+        return calculateDailyTemperature(calendarTime, calculateDailyVariation(ICalendar.getTotalDays(calendarTime)));
+    }
+
+    /**
+     * @param dailyVariation The random variation for the day, see {@link #calculateDailyVariation(long)}
+     */
+    protected float calculateDailyTemperature(long calendarTime, float dailyVariation)
     {
         // Hottest part of the day at 12, coldest at 0
         int hourOfDay = ICalendar.getHourOfDay(calendarTime);
@@ -451,10 +515,51 @@ public class OverworldClimateModel implements WorldGenClimateModel
         // Range: -1 - 1
         float hourModifier = (hourOfDay / 6f) - 1f;
 
+        return (dailyVariation + 0.3f * hourModifier) * 3f;
+    }
+
+    /**
+     * The random component of the daily temperature, which is constant for each day.
+     * Range: -1 - 1
+     */
+    protected float calculateDailyVariation(long day)
+    {
+        return getDailyClimate(day).temperatureVariation();
+    }
+
+    /**
+     * @return The climate values which are chosen randomly once per day. These are cached, as they are queried very frequently (i.e. wind, by every
+     * windmill and wind driven particle, every tick).
+     */
+    protected DailyClimate getDailyClimate(long day)
+    {
+        final int index = (int) (day & 1);
+        DailyClimate climate = dailyClimates[index];
+        if (climate == null || climate.day() != day)
+        {
+            climate = createDailyClimate(day);
+            dailyClimates[index] = climate;
+        }
+        return climate;
+    }
+
+    protected DailyClimate createDailyClimate(long day)
+    {
         // Note: this does not use world seed, as that is not synced from server - client, resulting in the seed being different
-        long day = ICalendar.getTotalDays(calendarTime);
-        final Random random = seededRandom(day, 1986239412341L);
-        return ((random.nextFloat() - random.nextFloat()) + 0.3f * hourModifier) * 3f;
+        final Random temperatureRandom = seededRandom(day, 1986239412341L);
+        final float temperatureVariation = temperatureRandom.nextFloat() - temperatureRandom.nextFloat();
+
+        final Random fogRandom = seededRandom(day, 129341623413L);
+        final float fogModifier = fogRandom.nextInt(FOGGY_DAY_RARITY) == 0 ? fogRandom.nextFloat() : 0;
+
+        // Winds in biomes with predictable winds only use the first two values, otherwise this depends on if it is a windy day
+        final Random windRandom = seededRandom(day, 129341623413L);
+        final float first = windRandom.nextFloat(), second = windRandom.nextFloat();
+        final float preventFrequentWindyDays = first < 0.1f ? 1f : second;
+        final float windIntensity = 0.5f * (first < 0.1f ? second : windRandom.nextFloat()) * preventFrequentWindyDays;
+        final float windAngle = windRandom.nextFloat() * Mth.TWO_PI;
+
+        return new DailyClimate(day, temperatureVariation, fogModifier, first * 0.3f + 0.3f, second * 0.2f - 0.1f, windIntensity, windAngle);
     }
 
     protected Random seededRandom(long day, long salt)
@@ -463,4 +568,14 @@ public class OverworldClimateModel implements WorldGenClimateModel
         seed = LinearCongruentialGenerator.next(seed, salt);
         return new Random(seed);
     }
+
+    /**
+     * @param temperatureVariation The random component of the daily temperature, see {@link #calculateDailyVariation(long)}
+     * @param fogModifier The untransformed fogginess, which is zero on days which are not foggy. Fog is offset by two hours from the calendar day.
+     * @param predictableWindIntensity The base wind intensity, in biomes with predictable winds.
+     * @param predictableWindAngleOffset The offset of the wind angle from the prevailing direction, in biomes with predictable winds.
+     * @param windIntensity The base wind intensity, elsewhere.
+     * @param windAngle The wind angle, elsewhere.
+     */
+    protected record DailyClimate(long day, float temperatureVariation, float fogModifier, float predictableWindIntensity, float predictableWindAngleOffset, float windIntensity, float windAngle) {}
 }
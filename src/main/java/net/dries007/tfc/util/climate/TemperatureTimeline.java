@@ -0,0 +1,24 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.climate;
+
+import net.minecraft.core.BlockPos;
+
+/**
+ * The temperature within a single chunk, over a span of time. This is used by crops and plants which catch up on growth after being unloaded, which
+ * evaluate the temperature at many points in time, for many positions in the same chunk.
+ *
+ * @see Climate#getTemperatureTimeline
+ */
+@FunctionalInterface
+public interface TemperatureTimeline
+{
+    /**
+     * Equivalent to {@link ClimateModel#getTemperature}, for a position within the chunk this timeline was created for.
+     */
+    float getTemperature(BlockPos pos, long calendarTicks, int daysInMonth);
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.level.material.Fluid;
+
+/**
+ * A variant of {@link IndirectHashCollection}, for values which are keyed on both a fluid and an item, such as barrel recipes.
+ * <p>
+ * Values are indexed by every fluid returned by the fluid key extractor, and then by every item returned by the item key extractor. If the item key extractor returns {@code null}
+ * (or no items), the value is assumed to accept any item, and is present in every query for its fluids. Just like {@link IndirectHashCollection}, results must still be tested against
+ * the actual query, as this only narrows down the possible candidates.
+ */
+public class FluidItemHashCollection<R>
+{
+    private final Map<Fluid, Map<Item, List<R>>> byFluidAndItem;
+    private final Map<Fluid, List<R>> byFluid; // Values which accept any item
+    private final Function<R, Iterable<? extends Fluid>> fluidKeyExtractor;
+    private final Function<R, Iterable<? extends Item>> itemKeyExtractor;
+
+    public FluidItemHashCollection(Function<R, Iterable<? extends Fluid>> fluidKeyExtractor, Function<R, Iterable<? extends Item>> itemKeyExtractor)
+    {
+        this.fluidKeyExtractor = fluidKeyExtractor;
+        this.itemKeyExtractor = itemKeyExtractor;
+        this.byFluidAndItem = new HashMap<>();
+        this.byFluid = new HashMap<>();
+    }
+
+    /**
+     * @return All values which may match both the fluid and item. Values which accept any item are always present, but are ordered last.
+     */
+    public Collection<R> getAll(Fluid fluid, Item item)
+    {
+        final Map<Item, List<R>> byItem = byFluidAndItem.get(fluid);
+        if (byItem != null)
+        {
+            final List<R> values = byItem.get(item);
+            if (values != null)
+            {
+                return values;
+            }
+        }
+        return byFluid.getOrDefault(fluid, Collections.emptyList());
+    }
+
+    public void reload(Collection<R> values)
+    {
+        clear();
+        for (R value : values)
+        {
+            final Iterable<? extends Item> items = itemKeyExtractor.apply(value);
+            final boolean anyItem = items == null || !items.iterator().hasNext();
+            for (Fluid fluid : fluidKeyExtractor.apply(value))
+            {
+                if (anyItem)
+                {
+                    byFluid.computeIfAbsent(fluid, k -> new ArrayList<>()).add(value);
+                }
+                else
+                {
+                    final Map<Item, List<R>> byItem = byFluidAndItem.computeIfAbsent(fluid, k -> new HashMap<>());
+                    for (Item item : items)
+                    {
+                        final List<R> list = byItem.computeIfAbsent(item, k -> new ArrayList<>());
+                        if (list.isEmpty() || list.get(list.size() - 1) != value) // Avoid duplicates from ingredients which list the same item multiple times
+                        {
+                            list.add(value);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Values which accept any item also need to be present in every specific query for their fluid
+        byFluid.forEach((fluid, anyItemValues) -> {
+            final Map<Item, List<R>> byItem = byFluidAndItem.get(fluid);
+            if (byItem != null)
+            {
+                byItem.values().forEach(list -> list.addAll(anyItemValues));
+            }
+        });
+    }
+
+    public void clear()
+    {
+        byFluidAndItem.clear();
+        byFluid.clear();
+    }
+}
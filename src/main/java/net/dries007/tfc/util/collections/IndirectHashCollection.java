@@ -10,13 +10,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import net.minecraft.world.Container;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.material.Fluid;
 
 import net.dries007.tfc.util.Helpers;
 
@@ -40,6 +44,8 @@ public class IndirectHashCollection<K, R>
 {
     private static final Map<IndirectHashCollection<?, ?>, Supplier<Collection<?>>> DIRECT_CACHES = new HashMap<>();
     private static final Map<IndirectHashCollection<?, ?>, Supplier<RecipeType<?>>> RECIPE_CACHES = new HashMap<>();
+    private static final Map<FluidItemHashCollection<?>, Supplier<RecipeType<?>>> FLUID_ITEM_RECIPE_CACHES = new HashMap<>();
+    private static final List<ResolvedCache<?, ?, ?>> RESOLVED_CACHES = new CopyOnWriteArrayList<>();
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static <K, R> IndirectHashCollection<K, R> create(Function<R, Iterable<? extends K>> keyExtractor, Supplier<Collection<R>> reloadableCollection)
@@ -57,17 +63,40 @@ public class IndirectHashCollection<K, R>
         return cache;
     }
 
+    /**
+     * Creates a {@link FluidItemHashCollection} for recipes which have both a fluid and item input, which is reloaded along with all other caches.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <C extends Container, R extends Recipe<C>> FluidItemHashCollection<R> createForFluidItemRecipe(Function<R, Iterable<? extends Fluid>> fluidKeyExtractor, Function<R, Iterable<? extends Item>> itemKeyExtractor, Supplier<RecipeType<R>> recipeType)
+    {
+        final FluidItemHashCollection<R> cache = new FluidItemHashCollection<>(fluidKeyExtractor, itemKeyExtractor);
+        FLUID_ITEM_RECIPE_CACHES.put(cache, (Supplier) recipeType);
+        return cache;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static void reloadAllCaches(RecipeManager manager)
     {
         DIRECT_CACHES.forEach((cache, values) -> reloadDirectCache((IndirectHashCollection) cache, (Supplier) values));
         RECIPE_CACHES.forEach((cache, type) -> reloadRecipeCache((IndirectHashCollection) cache, manager, (Supplier) type));
+        FLUID_ITEM_RECIPE_CACHES.forEach((cache, type) -> reloadFluidItemRecipeCache((FluidItemHashCollection) cache, manager, (Supplier) type));
+        RESOLVED_CACHES.forEach(ResolvedCache::clear);
     }
 
     public static void clearAllCaches()
     {
         DIRECT_CACHES.forEach((cache, values) -> cache.clear());
         RECIPE_CACHES.forEach((cache, type) -> cache.clear());
+        FLUID_ITEM_RECIPE_CACHES.forEach((cache, type) -> cache.clear());
+        RESOLVED_CACHES.forEach(ResolvedCache::clear);
+    }
+
+    /**
+     * Registers a {@link ResolvedCache}, which is invalidated whenever caches are reloaded or cleared.
+     */
+    static void registerResolvedCache(ResolvedCache<?, ?, ?> cache)
+    {
+        RESOLVED_CACHES.add(cache);
     }
 
     private static <K, R> void reloadDirectCache(IndirectHashCollection<K, R> cache, Supplier<Collection<R>> values)
@@ -80,6 +109,11 @@ public class IndirectHashCollection<K, R>
         cache.reload(Helpers.getRecipes(manager, recipe).values());
     }
 
+    private static <C extends Container, R extends Recipe<C>> void reloadFluidItemRecipeCache(FluidItemHashCollection<R> cache, RecipeManager manager, Supplier<RecipeType<R>> recipe)
+    {
+        cache.reload(Helpers.getRecipes(manager, recipe).values());
+    }
+
     private final Map<K, Collection<R>> indirectResultMap;
     private final Function<R, Iterable<? extends K>> keyExtractor;
 
@@ -0,0 +1,121 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.collections;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import net.dries007.tfc.util.ItemDefinition;
+
+/**
+ * A cache of the first matching value, resolved from a data driven {@link IndirectHashCollection}, for lookups which are made very frequently (i.e. item
+ * sizes, which are queried for every slot of every player's inventory).
+ * <p>
+ * A result is only cached for a key when every candidate value for that key matches on the key alone, i.e. an ingredient which does not depend on the
+ * stack's NBT. Otherwise, the lookup is marked as uncacheable, and falls back to testing each candidate. All resolved caches are invalidated whenever
+ * {@link IndirectHashCollection#reloadAllCaches} or {@link IndirectHashCollection#clearAllCaches} is called.
+ *
+ * @param <K> The cache key, i.e. an {@link Item}, or a block state.
+ * @param <S> The subject being tested, i.e. an {@link ItemStack}.
+ * @param <V> The value.
+ */
+public final class ResolvedCache<K, S, V>
+{
+    private static final Object NONE = new Object();
+    private static final Object UNCACHEABLE = new Object();
+
+    /**
+     * Creates a cache for a collection of {@link ItemDefinition}s, keyed by item.
+     */
+    public static <V extends ItemDefinition> ResolvedCache<Item, ItemStack, V> forItems(IndirectHashCollection<Item, V> source)
+    {
+        return create(source::getAll, ItemDefinition::matches, ItemDefinition::dependsOnlyOnItem);
+    }
+
+    /**
+     * @param candidates Provides all candidate values for a given key, in order.
+     * @param matches A predicate, for if a value matches the subject.
+     * @param keyOnly A predicate, for if a value's match depends only on the key, and not the rest of the subject.
+     */
+    public static <K, S, V> ResolvedCache<K, S, V> create(Function<K, Collection<V>> candidates, BiPredicate<V, S> matches, Predicate<V> keyOnly)
+    {
+        final ResolvedCache<K, S, V> cache = new ResolvedCache<>(candidates, matches, keyOnly);
+        IndirectHashCollection.registerResolvedCache(cache);
+        return cache;
+    }
+
+    private final Map<K, Object> values;
+    private final Function<K, Collection<V>> candidates;
+    private final BiPredicate<V, S> matches;
+    private final Predicate<V> keyOnly;
+
+    private ResolvedCache(Function<K, Collection<V>> candidates, BiPredicate<V, S> matches, Predicate<V> keyOnly)
+    {
+        this.values = new ConcurrentHashMap<>();
+        this.candidates = candidates;
+        this.matches = matches;
+        this.keyOnly = keyOnly;
+    }
+
+    /**
+     * @return The first candidate value for {@code key}, which matches {@code subject}, or {@code null} if none match.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V get(K key, S subject)
+    {
+        Object value = values.get(key);
+        if (value == null)
+        {
+            value = resolve(key, subject);
+            values.put(key, value);
+        }
+        if (value == UNCACHEABLE)
+        {
+            return findFirst(key, subject);
+        }
+        return value == NONE ? null : (V) value;
+    }
+
+    public void clear()
+    {
+        values.clear();
+    }
+
+    private Object resolve(K key, S subject)
+    {
+        for (V candidate : candidates.apply(key))
+        {
+            if (!keyOnly.test(candidate))
+            {
+                return UNCACHEABLE;
+            }
+        }
+        final V value = findFirst(key, subject);
+        return value == null ? NONE : value;
+    }
+
+    @Nullable
+    private V findFirst(K key, S subject)
+    {
+        for (V candidate : candidates.apply(key))
+        {
+            if (matches.test(candidate, subject))
+            {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
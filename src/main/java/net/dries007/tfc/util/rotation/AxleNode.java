@@ -31,10 +31,10 @@ public class AxleNode extends Node
         if (sourceRotation instanceof AxleRotation axleRotation)
         {
             // Increase the length of axles in this connection
-            return new AxleRotation(sourceRotation, axleRotation.length + 1);
+            return new AxleRotation(axleRotation.root(), axleRotation.direction(), axleRotation.length + 1);
         }
         // Not connected to an axle, so this is a new rotation
-        return new AxleRotation(sourceRotation, 1);
+        return new AxleRotation(sourceRotation.root(), sourceRotation.direction(), 1);
     }
 
     @Override
@@ -51,24 +51,23 @@ public class AxleNode extends Node
 
     protected void onInvalidConnection() {}
 
-    record AxleRotation(Rotation from, int length) implements Rotation
+    /**
+     * @param root The rotation this is derived from, see {@link Rotation#root()}
+     * @param direction The direction of the rotation this axle is connected to.
+     * @param length The number of consecutive axles, including this one.
+     */
+    record AxleRotation(Rotation root, Direction direction, int length) implements Rotation
     {
         @Override
         public float angle(float partialTick)
         {
-            return from.angle(partialTick);
+            return root.angle(partialTick);
         }
 
         @Override
         public float speed()
         {
-            return from.speed();
-        }
-
-        @Override
-        public Direction direction()
-        {
-            return from.direction();
+            return root.speed();
         }
     }
 }
@@ -70,19 +70,24 @@ public interface Rotation
         };
     }
 
+    /**
+     * Creates a rotation derived from {@code source}, with a different direction. This refers to the {@link #root()} of {@code source} directly, rather
+     * than through any intermediate rotations, so querying the angle of any node in a network does not depend on its distance from the network's source.
+     */
     static Rotation of(Rotation source, Direction direction)
     {
+        final Rotation root = source.root();
         return new Rotation() {
             @Override
             public float angle(float partialTick)
             {
-                return source.angle(partialTick);
+                return root.angle(partialTick);
             }
 
             @Override
             public float speed()
             {
-                return source.speed();
+                return root.speed();
             }
 
             @Override
@@ -90,6 +95,12 @@ public interface Rotation
             {
                 return direction;
             }
+
+            @Override
+            public Rotation root()
+            {
+                return root;
+            }
         };
     }
 
@@ -172,6 +183,17 @@ public interface Rotation
      */
     Direction direction();
 
+    /**
+     * Rotations which only transfer another rotation (i.e. through axles and gearboxes), with a possibly different direction, share the angle and speed
+     * of the rotation they were derived from.
+     *
+     * @return The rotation which provides the angle and speed of this rotation. This is the rotation itself, if it is not derived from another.
+     */
+    default Rotation root()
+    {
+        return this;
+    }
+
     /**
      * @return The current direction of rotation, depending on the current speed, to always be oriented in a <strong>left-hand rule</strong>
      */
@@ -6,7 +6,9 @@
 
 package net.dries007.tfc.util.rotation;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Collectors;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
@@ -34,6 +36,7 @@ public final class RotationNetworkManager implements RotationAccess
 
     // This is a cache of all nodes in the world. It's probably not the most efficient data structure, but comparable to fetching block entities.
     // We maintain this mainly due to the fact that when nodes initially load on client, they don't exist in the world yet, so we can't do BFS to structure networks.
+    // It also serves as a spatial index of networks, as each node knows the network it belongs to, so we only need to consider networks adjacent to a node.
     private final Long2ObjectMap<Node> nodes;
     private long nextNetworkId;
 
@@ -110,7 +113,7 @@ public final class RotationNetworkManager implements RotationAccess
     public boolean add(Node toAdd)
     {
         @Nullable RotationNetwork addedNetwork = null;
-        for (RotationNetwork network : networks.values())
+        for (RotationNetwork network : getAdjacentNetworks(toAdd))
         {
             switch (network.updateOnAdd(toAdd))
             {
@@ -167,7 +170,7 @@ public final class RotationNetworkManager implements RotationAccess
             // If so, this update needs to be reverted and the current block broken, which means removing it from its original network
             final RotationNetwork originNetwork = getNetwork(networkId);
 
-            for (RotationNetwork network : networks.values())
+            for (RotationNetwork network : getAdjacentNetworks(toUpdate))
             {
                 // Note that the node already belongs to a network, so if this returns true, it is already broken and will not add
                 switch (network.updateOnAdd(toUpdate))
@@ -260,6 +263,34 @@ public final class RotationNetworkManager implements RotationAccess
             .collect(Collectors.joining("\n"));
     }
 
+    /**
+     * A network can only connect to a node if it contains a node adjacent to it, in one of its connections. So, rather than querying every network, we only
+     * need to query the networks of the adjacent nodes, as any other network would return {@link NetworkAddAction#FAIL_NO_CONNECTION}.
+     *
+     * @return The distinct networks which contain a node adjacent to {@code node}, in the direction of one of its connections.
+     */
+    private List<RotationNetwork> getAdjacentNetworks(Node node)
+    {
+        final List<RotationNetwork> adjacentNetworks = new ArrayList<>(2);
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (Direction direction : node.connections())
+        {
+            cursor.setWithOffset(node.pos(), direction);
+
+            final @Nullable Node adjacent = getNode(cursor);
+            if (adjacent != null && adjacent.network() != Node.NO_NETWORK)
+            {
+                final @Nullable RotationNetwork network = networks.get(adjacent.network());
+                if (network != null && !adjacentNetworks.contains(network))
+                {
+                    adjacentNetworks.add(network);
+                }
+            }
+        }
+        return adjacentNetworks;
+    }
+
     private RotationNetwork getNetwork(long networkId)
     {
         final RotationNetwork network = networks.get(networkId);
@@ -0,0 +1,180 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.util.tracker;
+
+import java.util.function.Consumer;
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * A set of block positions which are scheduled to be processed after a delay, i.e. checking for landslides after a block update.
+ * <p>
+ * Positions are stored packed, grouped by chunk, and are de-duplicated: adding a position which is already pending keeps the original delay. Each tick,
+ * up to a maximum number of due positions are processed, in the order they were added, and any remaining are carried over to the next tick. Positions
+ * in chunks which are not loaded are dropped, rather than loading the chunk, or being kept until it is next loaded, which may be much later.
+ */
+public class PendingPositions
+{
+    private final Long2ObjectLinkedOpenHashMap<Long2IntLinkedOpenHashMap> chunks; // Chunk -> (Position -> Tick when due)
+    private final LongArrayList due;
+    private final int delay;
+    private int tick;
+    private int size;
+
+    /**
+     * @param delay The number of ticks after being added, before positions will be processed.
+     */
+    public PendingPositions(int delay)
+    {
+        this.chunks = new Long2ObjectLinkedOpenHashMap<>();
+        this.due = new LongArrayList();
+        this.delay = delay;
+    }
+
+    public void add(BlockPos pos)
+    {
+        add(pos.asLong(), tick + delay);
+    }
+
+    /**
+     * Processes up to {@code budget} positions which are due, in loaded chunks, and removes them. Any positions in chunks which are no longer loaded are
+     * discarded. Positions added during processing are never processed in the same tick.
+     *
+     * @return The number of positions processed.
+     */
+    public int tick(Level level, int budget, Consumer<BlockPos> action)
+    {
+        tick++;
+        if (size == 0)
+        {
+            return 0;
+        }
+
+        // Collect due positions first, so that any added by the action do not modify the maps while iterating
+        due.clear();
+        final ObjectIterator<Long2ObjectMap.Entry<Long2IntLinkedOpenHashMap>> chunkIterator = chunks.long2ObjectEntrySet().fastIterator();
+        while (chunkIterator.hasNext() && due.size() < budget)
+        {
+            final Long2ObjectMap.Entry<Long2IntLinkedOpenHashMap> entry = chunkIterator.next();
+            final long chunkPos = entry.getLongKey();
+            final Long2IntLinkedOpenHashMap positions = entry.getValue();
+            if (!level.hasChunk(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos)))
+            {
+                size -= positions.size();
+                chunkIterator.remove();
+                continue;
+            }
+
+            final ObjectIterator<Long2IntMap.Entry> positionIterator = positions.long2IntEntrySet().fastIterator();
+            while (positionIterator.hasNext() && due.size() < budget)
+            {
+                final Long2IntMap.Entry position = positionIterator.next();
+                if (position.getIntValue() - tick <= 0)
+                {
+                    due.add(position.getLongKey());
+                    positionIterator.remove();
+                    size--;
+                }
+            }
+            if (positions.isEmpty())
+            {
+                chunkIterator.remove();
+            }
+        }
+
+        for (int i = 0; i < due.size(); i++)
+        {
+            action.accept(BlockPos.of(due.getLong(i)));
+        }
+        return due.size();
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public void clear()
+    {
+        chunks.clear();
+        size = 0;
+    }
+
+    /**
+     * Writes all pending positions as a packed array, with the remaining delay of each position only if it is non-zero.
+     */
+    public CompoundTag write()
+    {
+        final long[] positions = new long[size];
+        final byte[] delays = new byte[size];
+        boolean anyDelays = false;
+        int i = 0;
+        for (Long2IntLinkedOpenHashMap chunk : chunks.values())
+        {
+            for (Long2IntMap.Entry entry : chunk.long2IntEntrySet())
+            {
+                positions[i] = entry.getLongKey();
+                delays[i] = (byte) Math.max(0, Math.min(Byte.MAX_VALUE, entry.getIntValue() - tick));
+                anyDelays |= delays[i] != 0;
+                i++;
+            }
+        }
+
+        final CompoundTag nbt = new CompoundTag();
+        nbt.putLongArray("positions", positions);
+        if (anyDelays)
+        {
+            nbt.putByteArray("delays", delays);
+        }
+        return nbt;
+    }
+
+    public void read(CompoundTag nbt)
+    {
+        clear();
+
+        final long[] positions = nbt.getLongArray("positions");
+        final byte[] delays = nbt.getByteArray("delays");
+        for (int i = 0; i < positions.length; i++)
+        {
+            add(positions[i], tick + (i < delays.length ? delays[i] : 0));
+        }
+    }
+
+    /**
+     * Adds a position loaded from an older format, with an explicit remaining delay.
+     */
+    void add(BlockPos pos, int remainingDelay)
+    {
+        add(pos.asLong(), tick + remainingDelay);
+    }
+
+    private void add(long pos, int dueTick)
+    {
+        final long chunkPos = ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+        Long2IntLinkedOpenHashMap positions = chunks.get(chunkPos);
+        if (positions == null)
+        {
+            positions = new Long2IntLinkedOpenHashMap();
+            chunks.put(chunkPos, positions);
+        }
+        if (!positions.containsKey(pos))
+        {
+            positions.put(pos, dueTick);
+            size++;
+        }
+    }
+}
@@ -12,7 +12,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.LongArrayTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -41,7 +40,6 @@ import net.dries007.tfc.util.calendar.Calendars;
 import net.dries007.tfc.util.climate.BiomeBasedClimateModel;
 import net.dries007.tfc.util.climate.Climate;
 import net.dries007.tfc.util.climate.ClimateModel;
-import net.dries007.tfc.util.collections.BufferedList;
 import net.dries007.tfc.util.loot.TFCLoot;
 import net.dries007.tfc.util.rotation.RotationNetworkManager;
 
@@ -67,8 +65,8 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
     private final Random random;
     private final LazyOptional<WorldTracker> capability;
 
-    private final BufferedList<TickEntry> landslideTicks;
-    private final BufferedList<BlockPos> isolatedPositions;
+    private final PendingPositions landslidePositions;
+    private final PendingPositions isolatedPositions;
     private final List<Collapse> collapsesInProgress;
 
     private final ClimateModel defaultClimateModel = new BiomeBasedClimateModel();
@@ -85,15 +83,15 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
         this.random = new Random();
         this.capability = LazyOptional.of(() -> this);
         this.climateModel = null;
-        this.landslideTicks = new BufferedList<>();
-        this.isolatedPositions = new BufferedList<>();
+        this.landslidePositions = new PendingPositions(2);
+        this.isolatedPositions = new PendingPositions(0);
         this.collapsesInProgress = new ArrayList<>();
         this.rotationManager = new RotationNetworkManager();
     }
 
     public void addLandslidePos(BlockPos pos)
     {
-        landslideTicks.add(new TickEntry(pos, 2));
+        landslidePositions.add(pos);
     }
 
     public void addIsolatedPos(BlockPos pos)
@@ -202,31 +200,16 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
             collapsesInProgress.removeIf(collapse -> collapse.nextPositions.isEmpty());
         }
 
-        landslideTicks.flush();
-        Iterator<TickEntry> tickIterator = landslideTicks.listIterator();
-        while (tickIterator.hasNext())
-        {
-            TickEntry entry = tickIterator.next();
-            if (entry.tick())
-            {
-                final BlockState currentState = level.getBlockState(entry.getPos());
-                LandslideRecipe.tryLandslide(level, entry.getPos(), currentState);
-                tickIterator.remove();
-            }
-        }
-
-        isolatedPositions.flush();
-        Iterator<BlockPos> isolatedIterator = isolatedPositions.listIterator();
-        while (isolatedIterator.hasNext())
-        {
-            final BlockPos pos = isolatedIterator.next();
+        // Both share a single budget, and any positions which are not processed are carried over to following ticks
+        final int budget = TFCConfig.SERVER.maxPendingBlockChecksPerTick.get();
+        final int processed = landslidePositions.tick(level, budget, pos -> LandslideRecipe.tryLandslide(level, pos, level.getBlockState(pos)));
+        isolatedPositions.tick(level, budget - processed, pos -> {
             final BlockState currentState = level.getBlockState(pos);
             if (Helpers.isBlock(currentState.getBlock(), TFCTags.Blocks.BREAKS_WHEN_ISOLATED) && isIsolated(level, pos))
             {
                 Helpers.destroyBlockAndDropBlocksManually((ServerLevel) level, pos, ctx -> ctx.withParameter(TFCLoot.ISOLATED, true));
             }
-            isolatedIterator.remove();
-        }
+        });
     }
 
     public void addDebugTooltip(List<String> tooltips)
@@ -250,19 +233,9 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
     @Override
     public CompoundTag serializeNBT()
     {
-        landslideTicks.flush();
-        isolatedPositions.flush();
-
         CompoundTag nbt = new CompoundTag();
-        ListTag landslideNbt = new ListTag();
-        for (TickEntry entry : landslideTicks)
-        {
-            landslideNbt.add(entry.serializeNBT());
-        }
-        nbt.put("landslideTicks", landslideNbt);
-
-        LongArrayTag isolatedNbt = new LongArrayTag(isolatedPositions.stream().mapToLong(BlockPos::asLong).toArray());
-        nbt.put("isolatedPositions", isolatedNbt);
+        nbt.put("landslides", landslidePositions.write());
+        nbt.put("isolated", isolatedPositions.write());
 
         ListTag collapseNbt = new ListTag();
         for (Collapse collapse : collapsesInProgress)
@@ -283,18 +256,22 @@ public class WorldTracker implements ICapabilitySerializable<CompoundTag>
     {
         if (nbt != null)
         {
-            landslideTicks.clear();
             collapsesInProgress.clear();
-            isolatedPositions.clear();
 
+            landslidePositions.read(nbt.getCompound("landslides"));
+            isolatedPositions.read(nbt.getCompound("isolated"));
+
+            // Older saves stored each landslide as a compound, and isolated positions as a flat array
             ListTag landslideNbt = nbt.getList("landslideTicks", Tag.TAG_COMPOUND);
             for (int i = 0; i < landslideNbt.size(); i++)
             {
-                landslideTicks.add(new TickEntry(landslideNbt.getCompound(i)));
+                final TickEntry entry = new TickEntry(landslideNbt.getCompound(i));
+                landslidePositions.add(entry.getPos(), entry.getTicks());
+            }
+            for (long pos : nbt.getLongArray("isolatedPositions"))
+            {
+                isolatedPositions.add(BlockPos.of(pos));
             }
-
-            long[] isolatedNbt = nbt.getLongArray("isolatedPositions");
-            Arrays.stream(isolatedNbt).mapToObj(BlockPos::of).forEach(isolatedPositions::add);
 
             ListTag collapseNbt = nbt.getList("collapsesInProgress", Tag.TAG_COMPOUND);
             for (int i = 0; i < collapseNbt.size(); i++)
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A cache for approximate terrain heights, used to answer {@link net.minecraft.world.level.chunk.ChunkGenerator#getBaseHeight} queries, which are made
+ * repeatedly, and for the same chunks, by structure placement and locating structures.
+ * <p>
+ * Building a {@link ChunkHeightFiller} is far more expensive than sampling a single column from it, so columns are sampled lazily as they are queried,
+ * and a filler is reused between queries in the same chunk. Fillers hold samplers for every nearby biome, so they are kept in a separate, much smaller,
+ * cache than the sampled heights, which are only a 16x16 {@code int[]} per chunk. Fillers are stateful, so sampling is synchronized on each filler, but
+ * columns which have already been sampled are read without locking. Chunks are evicted as per {@link FastConcurrentCache}.
+ */
+public final class BaseHeightCache
+{
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final Function<ChunkPos, ChunkHeightFiller> heightFillerFactory;
+    private final FastConcurrentCache<int[]> heights;
+    private final FastConcurrentCache<ChunkHeightFiller> fillers;
+
+    public BaseHeightCache(Function<ChunkPos, ChunkHeightFiller> heightFillerFactory)
+    {
+        this.heightFillerFactory = heightFillerFactory;
+        this.heights = new FastConcurrentCache<>(1024, 4);
+        this.fillers = new FastConcurrentCache<>(64, 4);
+    }
+
+    /**
+     * @return The approximate height of the world at the given block position.
+     */
+    public int getHeight(int blockX, int blockZ)
+    {
+        final int chunkX = SectionPos.blockToSectionCoord(blockX), chunkZ = SectionPos.blockToSectionCoord(blockZ);
+        final int[] chunkHeights = getOrCreateHeights(chunkX, chunkZ);
+        final int index = (blockX & 15) | ((blockZ & 15) << 4);
+
+        // Reads and writes of an int are atomic, so at worst this observes a stale unknown value, and samples the same height again
+        int height = chunkHeights[index];
+        if (height == UNKNOWN)
+        {
+            height = sampleHeight(getOrCreateFiller(chunkX, chunkZ), blockX, blockZ);
+            chunkHeights[index] = height;
+        }
+        return height;
+    }
+
+    /**
+     * Queries the height at many positions at once. Positions are grouped by chunk, so each chunk's heights, and filler, are only looked up once, no matter
+     * the order in which positions are given.
+     *
+     * @param blockX  The block X coordinates.
+     * @param blockZ  The block Z coordinates, of the same length as {@code blockX}.
+     * @param heights An array of at least the same length, which will be filled with the height at each position.
+     */
+    public void getHeights(int[] blockX, int[] blockZ, int[] heights)
+    {
+        assert blockX.length == blockZ.length && heights.length >= blockX.length : "Mismatched array lengths";
+
+        final int size = blockX.length;
+        final long[] chunks = new long[size];
+        final int[] order = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            chunks[i] = ChunkPos.asLong(SectionPos.blockToSectionCoord(blockX[i]), SectionPos.blockToSectionCoord(blockZ[i]));
+            order[i] = i;
+        }
+        IntArrays.quickSort(order, (a, b) -> Long.compare(chunks[a], chunks[b]));
+
+        int start = 0;
+        while (start < size)
+        {
+            final long chunk = chunks[order[start]];
+            final int chunkX = ChunkPos.getX(chunk), chunkZ = ChunkPos.getZ(chunk);
+            final int[] chunkHeights = getOrCreateHeights(chunkX, chunkZ);
+
+            @Nullable ChunkHeightFiller filler = null;
+            int end = start;
+            for (; end < size && chunks[order[end]] == chunk; end++)
+            {
+                final int i = order[end];
+                final int index = (blockX[i] & 15) | ((blockZ[i] & 15) << 4);
+
+                int height = chunkHeights[index];
+                if (height == UNKNOWN)
+                {
+                    if (filler == null)
+                    {
+                        filler = getOrCreateFiller(chunkX, chunkZ);
+                    }
+                    height = sampleHeight(filler, blockX[i], blockZ[i]);
+                    chunkHeights[index] = height;
+                }
+                heights[i] = height;
+            }
+            start = end;
+        }
+    }
+
+    private int[] getOrCreateHeights(int chunkX, int chunkZ)
+    {
+        int[] chunkHeights = heights.getIfPresent(chunkX, chunkZ);
+        if (chunkHeights == null)
+        {
+            // Racing threads may both create the same chunk, but this is harmless, as at worst a few heights are sampled twice
+            chunkHeights = new int[16 * 16];
+            Arrays.fill(chunkHeights, UNKNOWN);
+            heights.set(chunkX, chunkZ, chunkHeights);
+        }
+        return chunkHeights;
+    }
+
+    private ChunkHeightFiller getOrCreateFiller(int chunkX, int chunkZ)
+    {
+        ChunkHeightFiller filler = fillers.getIfPresent(chunkX, chunkZ);
+        if (filler == null)
+        {
+            filler = heightFillerFactory.apply(new ChunkPos(chunkX, chunkZ));
+            fillers.set(chunkX, chunkZ, filler);
+        }
+        return filler;
+    }
+
+    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    private static int sampleHeight(ChunkHeightFiller filler, int blockX, int blockZ)
+    {
+        synchronized (filler)
+        {
+            return (int) filler.sampleHeight(blockX, blockZ);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.minecraft.core.QuartPos;
+import net.minecraft.world.level.ChunkPos;
+
+import net.dries007.tfc.world.biome.BiomeExtension;
+
+/**
+ * A shared cache for {@link ChunkBiomeSampler#sampleBiomes(ChunkPos, Sampler)}, for a single biome source.
+ * <p>
+ * Every sampled weight is a function of only its absolute position, either a chunk position (for the large-scale weights), or a quart position (for the
+ * composed weights). Neighboring chunks overlap by three quarts in each direction, and every chunk-scale sample is used by sixteen chunks, so without a cache
+ * most of the kernel convolutions for a chunk have already been done by its neighbors. Both are stored in square tiles of {@link #TILE_CHUNKS} chunks,
+ * which are filled lazily, and held in a bounded {@link FastConcurrentCache}.
+ * <p>
+ * Cached {@link BiomeWeights} are shared between threads and chunks, and must not be modified.
+ */
+public final class BiomeSampleCache
+{
+    public static final int TILE_BITS = 3;
+    public static final int TILE_CHUNKS = 1 << TILE_BITS; // The width of a tile, in chunks
+
+    private static final int TILE_QUARTS = TILE_CHUNKS << 2;
+    private static final int TILE_MASK = TILE_CHUNKS - 1;
+    private static final int QUART_TILE_MASK = TILE_QUARTS - 1;
+
+    private final Sampler<BiomeExtension> biomeSampler;
+    private final Sampler<BiomeWeights> chunkWeights;
+    private final FastConcurrentCache<Tile> tiles;
+
+    public BiomeSampleCache(Sampler<BiomeExtension> biomeSampler)
+    {
+        this.biomeSampler = biomeSampler;
+        this.chunkWeights = this::getChunkWeights;
+        this.tiles = new FastConcurrentCache<>(64, 4);
+    }
+
+    /**
+     * Equivalent to {@link ChunkBiomeSampler#sampleBiomes(ChunkPos, Sampler)}, but reuses samples from previous calls.
+     */
+    public BiomeWeights[] sampleBiomes(ChunkPos pos)
+    {
+        final BiomeWeights[] quartBiomeWeightArray = new BiomeWeights[7 * 7];
+        final int minQuartX = QuartPos.fromSection(pos.x) - 1, minQuartZ = QuartPos.fromSection(pos.z) - 1;
+        for (int x = 0; x < 7; x++)
+        {
+            for (int z = 0; z < 7; z++)
+            {
+                quartBiomeWeightArray[x + 7 * z] = getQuartWeights(minQuartX + x, minQuartZ + z);
+            }
+        }
+        return quartBiomeWeightArray;
+    }
+
+    private BiomeWeights getQuartWeights(int quartX, int quartZ)
+    {
+        final Tile tile = getOrCreateTile(quartX >> (TILE_BITS + 2), quartZ >> (TILE_BITS + 2));
+        final int index = (quartX & QUART_TILE_MASK) + TILE_QUARTS * (quartZ & QUART_TILE_MASK);
+        BiomeWeights weights = tile.quartWeights.get(index);
+        if (weights == null)
+        {
+            // Concurrent samples of the same position produce identical results, so it does not matter which is kept
+            weights = ChunkBiomeSampler.sampleQuartWeights(biomeSampler, chunkWeights, quartX, quartZ);
+            tile.quartWeights.set(index, weights);
+        }
+        return weights;
+    }
+
+    private BiomeWeights getChunkWeights(int chunkX, int chunkZ)
+    {
+        final Tile tile = getOrCreateTile(chunkX >> TILE_BITS, chunkZ >> TILE_BITS);
+        final int index = (chunkX & TILE_MASK) + TILE_CHUNKS * (chunkZ & TILE_MASK);
+        BiomeWeights weights = tile.chunkWeights.get(index);
+        if (weights == null)
+        {
+            weights = ChunkBiomeSampler.sampleChunkWeights(biomeSampler, chunkX, chunkZ);
+            tile.chunkWeights.set(index, weights);
+        }
+        return weights;
+    }
+
+    private Tile getOrCreateTile(int tileX, int tileZ)
+    {
+        Tile tile = tiles.getIfPresent(tileX, tileZ);
+        if (tile == null)
+        {
+            // If two threads race to create the same tile, one is lost from the cache, which only costs repeating some samples
+            tile = new Tile();
+            tiles.set(tileX, tileZ, tile);
+        }
+        return tile;
+    }
+
+    static final class Tile
+    {
+        final AtomicReferenceArray<BiomeWeights> quartWeights = new AtomicReferenceArray<>(TILE_QUARTS * TILE_QUARTS);
+        final AtomicReferenceArray<BiomeWeights> chunkWeights = new AtomicReferenceArray<>(TILE_CHUNKS * TILE_CHUNKS);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world;
+
+import java.util.Arrays;
+
+import net.dries007.tfc.world.biome.BiomeExtension;
+
+/**
+ * A compact, weighted set of biomes. This is a replacement for a {@code Object2DoubleMap<BiomeExtension>}, which is optimized for the small number of biomes
+ * (typically less than four) that are present in a single sample. Entries are stored in insertion order in parallel arrays, and lookup is done via a linear
+ * scan, which for these sizes is faster than hashing, and does not allocate any entry or iterator objects.
+ * <p>
+ * Iterate via {@link #size()}, {@link #biome(int)} and {@link #weight(int)}.
+ */
+public final class BiomeWeights
+{
+    private BiomeExtension[] biomes;
+    private double[] weights;
+    private int size;
+
+    public BiomeWeights()
+    {
+        this(4);
+    }
+
+    public BiomeWeights(int capacity)
+    {
+        this.biomes = new BiomeExtension[capacity];
+        this.weights = new double[capacity];
+        this.size = 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public BiomeExtension biome(int index)
+    {
+        return biomes[index];
+    }
+
+    public double weight(int index)
+    {
+        return weights[index];
+    }
+
+    public double getOrDefault(BiomeExtension biome, double defaultValue)
+    {
+        final int index = indexOf(biome);
+        return index == -1 ? defaultValue : weights[index];
+    }
+
+    /**
+     * Adds {@code weight} to the existing weight of {@code biome}, or inserts it if not present.
+     */
+    public void add(BiomeExtension biome, double weight)
+    {
+        final int index = indexOf(biome);
+        if (index == -1)
+        {
+            append(biome, weight);
+        }
+        else
+        {
+            weights[index] += weight;
+        }
+    }
+
+    /**
+     * Inserts {@code biome}, which must not already be present.
+     */
+    public void append(BiomeExtension biome, double weight)
+    {
+        assert indexOf(biome) == -1 : "Duplicate biome: " + biome.key();
+        if (size == biomes.length)
+        {
+            biomes = Arrays.copyOf(biomes, size << 1);
+            weights = Arrays.copyOf(weights, size << 1);
+        }
+        biomes[size] = biome;
+        weights[size] = weight;
+        size++;
+    }
+
+    /**
+     * Adds all entries of {@code other}, scaled by {@code t}, to this.
+     */
+    public void addAll(BiomeWeights other, double t)
+    {
+        for (int i = 0; i < other.size; i++)
+        {
+            add(other.biomes[i], other.weights[i] * t);
+        }
+    }
+
+    /**
+     * @return A copy of this, with exactly enough capacity for the current entries.
+     */
+    public BiomeWeights copy()
+    {
+        final BiomeWeights copy = new BiomeWeights(Math.max(1, size));
+        System.arraycopy(biomes, 0, copy.biomes, 0, size);
+        System.arraycopy(weights, 0, copy.weights, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(biomes, 0, size, null);
+        size = 0;
+    }
+
+    private int indexOf(BiomeExtension biome)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            if (biomes[i] == biome)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder builder = new StringBuilder("BiomeWeights{");
+        for (int i = 0; i < size; i++)
+        {
+            if (i > 0) builder.append(", ");
+            builder.append(biomes[i].key().location()).append('=').append(weights[i]);
+        }
+        return builder.append('}').toString();
+    }
+}
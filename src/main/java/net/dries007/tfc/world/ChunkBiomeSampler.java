@@ -6,15 +6,12 @@
 
 package net.dries007.tfc.world;
 
-import java.util.function.Function;
-import java.util.function.ToIntFunction;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.Arrays;
+import net.minecraft.core.QuartPos;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.biome.Biome;
 
 import net.dries007.tfc.world.biome.BiomeBlendType;
+import net.dries007.tfc.world.biome.BiomeExtension;
 import net.dries007.tfc.world.noise.Kernel;
 
 /**
@@ -24,74 +21,74 @@ public final class ChunkBiomeSampler
 {
     public static final Kernel KERNEL_9x9 = Kernel.create((x, z) -> 0.0211640211641D * (1 - 0.03125D * (z * z + x * x)), 4);
 
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     /**
      * @param pos           The target chunk pos.
      * @param biomeSampler  A sampler for biomes, in block coordinates.
-     * @param groupFunction A function to access a {@link BiomeBlendType} from a {@link Biome}.
      * @return A 7x7 array of sampled biome weights, at quart pos resolution, where the (0, 0) index aligns to the (-1, -1) quart position relative to the target chunk.
+     * @see BiomeSampleCache for a cached equivalent, which shares samples between neighboring chunks.
      */
-    public static <T> Object2DoubleMap<T>[] sampleBiomes(ChunkPos pos, Sampler<T> biomeSampler, Function<T, BiomeBlendType> groupFunction)
+    public static BiomeWeights[] sampleBiomes(ChunkPos pos, Sampler<BiomeExtension> biomeSampler)
     {
+        // All intermediate values are stored in per-thread scratch space, the only allocations are the returned weights
+        final Scratch scratch = SCRATCH.get();
+
         // First, sample biomes at chunk distance, in a 4x4 grid centered on the target chunk.
         // These are used to build the large-scale biome blending radius
-        final Object2DoubleMap<T>[] chunkBiomeWeightArray = newWeightArray(4 * 4);
-        final int chunkX = pos.getMinBlockX(), chunkZ = pos.getMinBlockZ(); // Block coordinates
+        final BiomeWeights[] chunkBiomeWeightArray = scratch.chunkBiomeWeights;
+        final int minChunkX = pos.x - 1, minChunkZ = pos.z - 1; // Chunk coordinates, of the (0, 0) index
         for (int x = 0; x < 4; x++)
         {
             for (int z = 0; z < 4; z++)
             {
-                // x, z = 0, 0 is the -1, -1 chunk relative to chunkX, chunkZ
-                final Object2DoubleMap<T> chunkBiomeWeight = new Object2DoubleOpenHashMap<>();
-                chunkBiomeWeightArray[x | (z << 2)] = chunkBiomeWeight;
-                sampleBiomesAtPositionWithKernel(chunkBiomeWeight, biomeSampler, KERNEL_9x9, 4, chunkX, chunkZ, x - 1, z - 1);
+                sampleChunkWeights(scratch, chunkBiomeWeightArray[x | (z << 2)], biomeSampler, minChunkX + x, minChunkZ + z);
             }
         }
 
         // A 7x7 grid, in quart positions relative to the target chunk, where (1, 1) is the target chunk origin.
-        final Object2DoubleMap<T>[] quartBiomeWeightArray = newWeightArray(7 * 7);
-        final Object2DoubleMap<T> chunkBiomeWeight = new Object2DoubleOpenHashMap<>();
-
+        final BiomeWeights[] quartBiomeWeightArray = new BiomeWeights[7 * 7];
+        final Sampler<BiomeWeights> chunkWeights = (chunkX, chunkZ) -> chunkBiomeWeightArray[(chunkX - minChunkX) | ((chunkZ - minChunkZ) << 2)];
+        final int minQuartX = QuartPos.fromSection(pos.x) - 1, minQuartZ = QuartPos.fromSection(pos.z) - 1;
         for (int x = 0; x < 7; x++)
         {
             for (int z = 0; z < 7; z++)
             {
-                // Reset
-                final Object2DoubleMap<T> quartBiomeWeight = new Object2DoubleOpenHashMap<>();
-                chunkBiomeWeight.clear();
-
-                sampleBiomesAtPositionWithKernel(quartBiomeWeight, biomeSampler, KERNEL_9x9, 2, chunkX, chunkZ, x - 1, z - 1);
-
-                // Calculate contribution from the four corners of the 16x16 grid. First, calculate the current grid cell coordinates.
-                final int x1 = chunkX + ((x - 1) << 2); // Block coordinates
-                final int z1 = chunkZ + ((z - 1) << 2);
-
-                final int coordX = x1 >> 4; // Chunk coordinates
-                final int coordZ = z1 >> 4;
-
-                final double lerpX = (x1 - (coordX << 4)) * (1 / 16d); // Deltas, in the range [0, 1)
-                final double lerpZ = (z1 - (coordZ << 4)) * (1 / 16d);
-
-                final int index16X = ((x1 - chunkX) >> 4) + 1; // Index into chunkBiomeWeightArray
-                final int index16Z = ((z1 - chunkZ) >> 4) + 1;
-
-                sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray[index16X | (index16Z << 2)], (1 - lerpX) * (1 - lerpZ));
-                sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray[(index16X + 1) | (index16Z << 2)], lerpX * (1 - lerpZ));
-                sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray[index16X | ((index16Z + 1) << 2)], (1 - lerpX) * lerpZ);
-                sampleBiomesCornerContribution(chunkBiomeWeight, chunkBiomeWeightArray[(index16X + 1) | ((index16Z + 1) << 2)], lerpX * lerpZ);
-
-                // Compose chunk weights -> wide quart weights.
-                composeSampleWeights(quartBiomeWeight, chunkBiomeWeight, biome -> {
-                    final BiomeBlendType group = groupFunction.apply(biome);
-                    return group.ordinal();
-                }, BiomeBlendType.SIZE);
-
-                quartBiomeWeightArray[x + 7 * z] = quartBiomeWeight;
+                quartBiomeWeightArray[x + 7 * z] = sampleQuartWeights(scratch, biomeSampler, chunkWeights, minQuartX + x, minQuartZ + z);
             }
         }
         return quartBiomeWeightArray;
     }
 
-    public static <T> void sampleBiomesColumn(Object2DoubleMap<T> accumulator, Object2DoubleMap<T>[] corners, int localX, int localZ)
+    /**
+     * Samples the large-scale biome weights, centered on the origin of a single chunk.
+     *
+     * @param chunkX The chunk X.
+     * @param chunkZ The chunk Z.
+     * @return A new, exactly sized, {@link BiomeWeights}.
+     */
+    public static BiomeWeights sampleChunkWeights(Sampler<BiomeExtension> biomeSampler, int chunkX, int chunkZ)
+    {
+        final Scratch scratch = SCRATCH.get();
+        final BiomeWeights weights = scratch.chunkBiomeWeight;
+        sampleChunkWeights(scratch, weights, biomeSampler, chunkX, chunkZ);
+        return weights.copy();
+    }
+
+    /**
+     * Samples the biome weights at a single quart position, composing a local sample with the large-scale chunk weights.
+     *
+     * @param chunkWeights A sampler for the results of {@link #sampleChunkWeights(Sampler, int, int)}, in chunk coordinates. The four chunks surrounding the quart position are queried.
+     * @param quartX The quart X.
+     * @param quartZ The quart Z.
+     * @return A new, exactly sized, {@link BiomeWeights}.
+     */
+    public static BiomeWeights sampleQuartWeights(Sampler<BiomeExtension> biomeSampler, Sampler<BiomeWeights> chunkWeights, int quartX, int quartZ)
+    {
+        return sampleQuartWeights(SCRATCH.get(), biomeSampler, chunkWeights, quartX, quartZ);
+    }
+
+    public static void sampleBiomesColumn(BiomeWeights accumulator, BiomeWeights[] corners, int localX, int localZ)
     {
         final int index4X = (localX >> 2) + 1;
         final int index4Z = (localZ >> 2) + 1;
@@ -106,30 +103,107 @@ public final class ChunkBiomeSampler
         sampleBiomesCornerContribution(accumulator, corners[(index4X + 1) + (index4Z + 1) * 7], lerpX * lerpZ);
     }
 
-    private static <T> void sampleBiomesCornerContribution(Object2DoubleMap<T> accumulator, Object2DoubleMap<T> corner, double t)
+    private static void sampleChunkWeights(Scratch scratch, BiomeWeights weights, Sampler<BiomeExtension> biomeSampler, int chunkX, int chunkZ)
+    {
+        sampleBiomesAtPositionWithKernel(scratch, weights, biomeSampler, KERNEL_9x9, 4, chunkX, chunkZ);
+    }
+
+    private static BiomeWeights sampleQuartWeights(Scratch scratch, Sampler<BiomeExtension> biomeSampler, Sampler<BiomeWeights> chunkWeights, int quartX, int quartZ)
+    {
+        final BiomeWeights chunkBiomeWeight = scratch.quartChunkBiomeWeight;
+        final double[] quartGroupWeights = scratch.quartGroupWeights;
+
+        // Reset
+        chunkBiomeWeight.clear();
+
+        // At quart resolution, only the total weight of each group is needed, as the individual biomes are replaced when composing with the chunk weights
+        sampleBiomeGroupsAtPositionWithKernel(quartGroupWeights, biomeSampler, KERNEL_9x9, 2, quartX, quartZ);
+
+        // Calculate contribution from the four corners of the 16x16 grid. First, calculate the current grid cell coordinates.
+        final int coordX = quartX >> 2; // Chunk coordinates
+        final int coordZ = quartZ >> 2;
+
+        final double lerpX = (quartX & 3) * (1 / 4d); // Deltas, in the range [0, 1)
+        final double lerpZ = (quartZ & 3) * (1 / 4d);
+
+        sampleBiomesCornerContribution(chunkBiomeWeight, chunkWeights.get(coordX, coordZ), (1 - lerpX) * (1 - lerpZ));
+        sampleBiomesCornerContribution(chunkBiomeWeight, chunkWeights.get(coordX + 1, coordZ), lerpX * (1 - lerpZ));
+        sampleBiomesCornerContribution(chunkBiomeWeight, chunkWeights.get(coordX, coordZ + 1), (1 - lerpX) * lerpZ);
+        sampleBiomesCornerContribution(chunkBiomeWeight, chunkWeights.get(coordX + 1, coordZ + 1), lerpX * lerpZ);
+
+        // Compose chunk weights -> wide quart weights.
+        return composeSampleWeights(scratch, quartGroupWeights, chunkBiomeWeight);
+    }
+
+    private static void sampleBiomesCornerContribution(BiomeWeights accumulator, BiomeWeights corner, double t)
     {
         if (t > 0)
         {
-            for (Object2DoubleMap.Entry<T> entry : corner.object2DoubleEntrySet())
+            accumulator.addAll(corner, t);
+        }
+    }
+
+    /**
+     * Samples biomes with the kernel, and accumulates the weights densely, by {@link BiomeExtension#id()}, before copying the non-zero weights into {@code weights}.
+     */
+    private static void sampleBiomesAtPositionWithKernel(Scratch scratch, BiomeWeights weights, Sampler<BiomeExtension> biomeSampler, Kernel kernel, int kernelBits, int x, int z)
+    {
+        final int kernelRadius = kernel.radius();
+        final int kernelWidth = kernel.width();
+        final double[] dense = scratch.denseWeights();
+        final int[] touched = scratch.touched;
+        int touchedCount = 0;
+
+        for (int dx = -kernelRadius; dx <= kernelRadius; dx++)
+        {
+            for (int dz = -kernelRadius; dz <= kernelRadius; dz++)
             {
-                accumulator.mergeDouble(entry.getKey(), entry.getDoubleValue() * t, Double::sum);
+                final double weight = kernel.values()[(dx + kernelRadius) + (dz + kernelRadius) * kernelWidth];
+                if (weight > 0)
+                {
+                    final int blockX = (x + dx) << kernelBits; // Block positions
+                    final int blockZ = (z + dz) << kernelBits;
+                    final BiomeExtension biome = biomeSampler.get(blockX, blockZ);
+                    final int id = biome.id();
+                    if (dense[id] == 0)
+                    {
+                        scratch.biomesById[id] = biome;
+                        touched[touchedCount++] = id;
+                    }
+                    dense[id] += weight;
+                }
             }
         }
+
+        weights.clear();
+        for (int i = 0; i < touchedCount; i++)
+        {
+            final int id = touched[i];
+            weights.append(scratch.biomesById[id], dense[id]);
+            dense[id] = 0;
+        }
     }
 
-    private static <T> void sampleBiomesAtPositionWithKernel(Object2DoubleMap<T> weights, Sampler<T> biomeSampler, Kernel kernel, int kernelBits, int chunkX, int chunkZ, int xOffsetInKernelBits, int zOffsetInKernelBits)
+    /**
+     * Samples biomes with the kernel, and accumulates the weights by {@link BiomeBlendType}, into {@code groupWeights}.
+     */
+    private static void sampleBiomeGroupsAtPositionWithKernel(double[] groupWeights, Sampler<BiomeExtension> biomeSampler, Kernel kernel, int kernelBits, int x, int z)
     {
         final int kernelRadius = kernel.radius();
         final int kernelWidth = kernel.width();
+
+        Arrays.fill(groupWeights, 0);
         for (int dx = -kernelRadius; dx <= kernelRadius; dx++)
         {
             for (int dz = -kernelRadius; dz <= kernelRadius; dz++)
             {
                 final double weight = kernel.values()[(dx + kernelRadius) + (dz + kernelRadius) * kernelWidth];
-                final int blockX = chunkX + ((xOffsetInKernelBits + dx) << kernelBits); // Block positions
-                final int blockZ = chunkZ + ((zOffsetInKernelBits + dz) << kernelBits);
-                final T biome = biomeSampler.get(blockX, blockZ);
-                weights.mergeDouble(biome, weight, Double::sum);
+                if (weight > 0)
+                {
+                    final int blockX = (x + dx) << kernelBits; // Block positions
+                    final int blockZ = (z + dz) << kernelBits;
+                    groupWeights[biomeSampler.get(blockX, blockZ).biomeBlendType().ordinal()] += weight;
+                }
             }
         }
     }
@@ -147,48 +221,87 @@ public final class ChunkBiomeSampler
      * - 60% Plains: Group "Not River", and is replaced with 60% * (30% Plains, 40% Mountains, 30% Hills) / 90%
      * - 50% River: Group "River", which is replaced with 40% * (10% River) / 10%
      * - Result: 18% Plains, 24% Mountains, 18% Hills, 40% River
+     * <p>
+     * Since every biome belongs to a group, every element of the high resolution map is replaced, so only its total weight per group ({@code actualWeights}) is required.
+     *
+     * @param actualWeights The total weight of each group, in the high resolution map.
+     * @param groupWeightMap The low resolution map.
+     * @return A new, exactly sized, {@link BiomeWeights} containing the composed weights.
      */
-    private static <T> void composeSampleWeights(Object2DoubleMap<T> weightMap, Object2DoubleMap<T> groupWeightMap, ToIntFunction<T> groupFunction, int groups)
+    private static BiomeWeights composeSampleWeights(Scratch scratch, double[] actualWeights, BiomeWeights groupWeightMap)
     {
         // First, we need to calculate the maximum weight per group
-        double[] maxWeights = new double[groups];
-        for (Object2DoubleMap.Entry<T> entry : groupWeightMap.object2DoubleEntrySet())
+        final double[] maxWeights = scratch.maxGroupWeights;
+        Arrays.fill(maxWeights, 0);
+        for (int i = 0; i < groupWeightMap.size(); i++)
         {
-            int group = groupFunction.applyAsInt(entry.getKey());
-            if (group != -1)
-            {
-                maxWeights[group] += entry.getDoubleValue();
-            }
+            maxWeights[groupWeightMap.biome(i).biomeBlendType().ordinal()] += groupWeightMap.weight(i);
         }
 
-        // Then, we iterate through the smaller weight map and identify the actual weight that needs to be replaced with each group
-        double[] actualWeights = new double[groups];
-        ObjectIterator<Object2DoubleMap.Entry<T>> iterator = weightMap.object2DoubleEntrySet().iterator();
-        while (iterator.hasNext())
+        // Then, insert the weights for each group as a portion of the actual weight
+        int count = 0;
+        for (int i = 0; i < groupWeightMap.size(); i++)
         {
-            Object2DoubleMap.Entry<T> entry = iterator.next();
-            int group = groupFunction.applyAsInt(entry.getKey());
-            if (group != -1)
+            final int group = groupWeightMap.biome(i).biomeBlendType().ordinal();
+            if (actualWeights[group] > 0 && maxWeights[group] > 0)
             {
-                actualWeights[group] += entry.getDoubleValue();
-                iterator.remove();
+                count++;
             }
         }
 
-        // Finally, insert the weights for each group as a portion of the actual weight
-        for (Object2DoubleMap.Entry<T> entry : groupWeightMap.object2DoubleEntrySet())
+        final BiomeWeights weightMap = new BiomeWeights(Math.max(1, count));
+        for (int i = 0; i < groupWeightMap.size(); i++)
         {
-            int group = groupFunction.applyAsInt(entry.getKey());
-            if (group != -1 && actualWeights[group] > 0 && maxWeights[group] > 0)
+            final int group = groupWeightMap.biome(i).biomeBlendType().ordinal();
+            if (actualWeights[group] > 0 && maxWeights[group] > 0)
             {
-                weightMap.put(entry.getKey(), entry.getDoubleValue() * actualWeights[group] / maxWeights[group]);
+                weightMap.append(groupWeightMap.biome(i), groupWeightMap.weight(i) * actualWeights[group] / maxWeights[group]);
             }
         }
+        return weightMap;
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> Object2DoubleMap<T>[] newWeightArray(int size)
+    /**
+     * Per-thread, reusable, intermediate storage for sampling. Nothing stored here escapes the sampling methods.
+     */
+    static final class Scratch
     {
-        return (Object2DoubleMap<T>[]) new Object2DoubleMap[size]; // Avoid generic array warnings / errors
+        final BiomeWeights[] chunkBiomeWeights;
+        final BiomeWeights chunkBiomeWeight;
+        final BiomeWeights quartChunkBiomeWeight;
+        final double[] quartGroupWeights;
+        final double[] maxGroupWeights;
+        final int[] touched;
+
+        double[] denseWeights; // Indexed by BiomeExtension.id(), always zero between uses
+        BiomeExtension[] biomesById;
+
+        Scratch()
+        {
+            this.chunkBiomeWeights = new BiomeWeights[4 * 4];
+            for (int i = 0; i < chunkBiomeWeights.length; i++)
+            {
+                chunkBiomeWeights[i] = new BiomeWeights();
+            }
+            this.chunkBiomeWeight = new BiomeWeights();
+            this.quartChunkBiomeWeight = new BiomeWeights();
+            this.quartGroupWeights = new double[BiomeBlendType.SIZE];
+            this.maxGroupWeights = new double[BiomeBlendType.SIZE];
+            this.touched = new int[KERNEL_9x9.values().length];
+            this.denseWeights = new double[0];
+            this.biomesById = new BiomeExtension[0];
+        }
+
+        double[] denseWeights()
+        {
+            // Extensions may be created after this scratch space was, so ensure we have space for every id
+            final int count = BiomeExtension.count();
+            if (denseWeights.length < count)
+            {
+                denseWeights = new double[count];
+                biomesById = new BiomeExtension[count];
+            }
+            return denseWeights;
+        }
     }
 }
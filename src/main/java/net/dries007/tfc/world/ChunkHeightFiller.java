@@ -33,8 +33,8 @@ public class ChunkHeightFiller
     protected final Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers; // Biome -> Noise Samplers
     protected final Object2DoubleMap<BiomeNoiseSampler> columnBiomeNoiseSamplers; // Per column weighted map of biome noises samplers
 
-    protected final Object2DoubleMap<BiomeExtension>[] sampledBiomeWeights; // 7x7 array of biome weights, at quart pos resolution
-    protected final Object2DoubleMap<BiomeExtension> biomeWeights1; // Local biome weights, for individual column adjustment
+    protected final BiomeWeights[] sampledBiomeWeights; // 7x7 array of biome weights, at quart pos resolution
+    protected final BiomeWeights biomeWeights1; // Local biome weights, for individual column adjustment
 
     // Rivers
     protected final BiomeSourceExtension biomeSource;
@@ -48,12 +48,12 @@ public class ChunkHeightFiller
     protected int blockX, blockZ; // Absolute x/z positions
     protected int localX, localZ; // Chunk-local x/z
 
-    public ChunkHeightFiller(Object2DoubleMap<BiomeExtension>[] sampledBiomeWeights, BiomeSourceExtension biomeSource, Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers, Map<RiverBlendType, RiverNoiseSampler> riverNoiseSamplers, Noise2D shoreSampler, int seaLevel)
+    public ChunkHeightFiller(BiomeWeights[] sampledBiomeWeights, BiomeSourceExtension biomeSource, Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers, Map<RiverBlendType, RiverNoiseSampler> riverNoiseSamplers, Noise2D shoreSampler, int seaLevel)
     {
         this.biomeNoiseSamplers = biomeNoiseSamplers;
         this.columnBiomeNoiseSamplers = new Object2DoubleOpenHashMap<>();
         this.sampledBiomeWeights = sampledBiomeWeights;
-        this.biomeWeights1 = new Object2DoubleOpenHashMap<>();
+        this.biomeWeights1 = new BiomeWeights();
 
         this.biomeSource = biomeSource;
         this.riverNoiseSamplers = riverNoiseSamplers;
@@ -92,7 +92,7 @@ public class ChunkHeightFiller
      * @param useCache If, in the stateful implementation, arrays corresponding to position within the chunk should be updated.
      * @return The maximum height at this location
      */
-    protected final double sampleColumnHeightAndBiome(Object2DoubleMap<BiomeExtension> biomeWeights, boolean useCache)
+    protected final double sampleColumnHeightAndBiome(BiomeWeights biomeWeights, boolean useCache)
     {
         columnBiomeNoiseSamplers.clear();
 
@@ -102,10 +102,10 @@ public class ChunkHeightFiller
         BiomeExtension biomeAt = null, normalBiomeAt = null, shoreBiomeAt = null;
         double maxNormalWeight = 0, maxShoreWeight = 0; // Partition on biome type
 
-        for (Object2DoubleMap.Entry<BiomeExtension> entry : biomeWeights.object2DoubleEntrySet())
+        for (int i = 0; i < biomeWeights.size(); i++)
         {
-            final double biomeWeight = entry.getDoubleValue();
-            final BiomeExtension biome = entry.getKey();
+            final double biomeWeight = biomeWeights.weight(i);
+            final BiomeExtension biome = biomeWeights.biome(i);
             final BiomeNoiseSampler sampler = biomeNoiseSamplers.get(biome);
 
             assert sampler != null : "Non-existent sampler for biome: " + biome.key();
@@ -217,13 +217,13 @@ public class ChunkHeightFiller
     /**
      * Initializes {@link #riverBlendWeights} from the biome weights, using the river type of each biome.
      */
-    private void computeInitialRiverWeights(Object2DoubleMap<BiomeExtension> biomeWeights)
+    private void computeInitialRiverWeights(BiomeWeights biomeWeights)
     {
         // Sum weights by biome extension -> river blend type first
         Arrays.fill(riverBlendWeights, 0d);
-        for (Object2DoubleMap.Entry<BiomeExtension> entry : biomeWeights.object2DoubleEntrySet())
+        for (int i = 0; i < biomeWeights.size(); i++)
         {
-            riverBlendWeights[entry.getKey().riverBlendType().ordinal()] += entry.getDoubleValue();
+            riverBlendWeights[biomeWeights.biome(i).riverBlendType().ordinal()] += biomeWeights.weight(i);
         }
     }
 
@@ -291,7 +291,7 @@ public class ChunkHeightFiller
         }
     }
 
-    protected void updateLocalCaches(Object2DoubleMap<BiomeExtension> biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height) {}
+    protected void updateLocalCaches(BiomeWeights biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height) {}
 
     @Nullable
     protected RiverInfo sampleRiverInfo(boolean useCache)
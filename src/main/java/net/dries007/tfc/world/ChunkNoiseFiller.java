@@ -109,7 +109,7 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
 
     public ChunkNoiseFiller(
         ProtoChunk chunk,
-        Object2DoubleMap<BiomeExtension>[] sampledBiomeWeights,
+        BiomeWeights[] sampledBiomeWeights,
         BiomeSourceExtension biomeSource,
         Map<BiomeExtension, BiomeNoiseSampler> biomeNoiseSamplers,
         Map<RiverBlendType, RiverNoiseSampler> riverNoiseSamplers,
@@ -606,7 +606,7 @@ public class ChunkNoiseFiller extends ChunkHeightFiller
     }
 
     @Override
-    protected void updateLocalCaches(Object2DoubleMap<BiomeExtension> biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height)
+    protected void updateLocalCaches(BiomeWeights biomeWeights, BiomeExtension biomeAt, @Nullable RiverInfo info, double height)
     {
         final int localIndex = localX + 16 * localZ;
 
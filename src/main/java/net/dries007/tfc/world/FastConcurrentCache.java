@@ -6,8 +6,8 @@
 
 package net.dries007.tfc.world;
 
-import java.util.Arrays;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
@@ -15,53 +15,165 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * A concurrent (safe to read and write between multiple threads) positional based, lossy, cache.
+ * <p>
+ * This is lock-free: each slot holds an immutable {@link Entry} of (key, value), which is published and replaced atomically, so readers never observe
+ * a key paired with the wrong value, and never block on writers. Slots are grouped into sets of {@code ways} entries (the associativity), where a key
+ * may occupy any slot in its set. With {@code ways = 1}, this is a direct-mapped cache.
+ * <p>
+ * Hit, miss, and eviction counts can be tracked with {@link LongAdder}s, which can be used to size the cache. As these are queried on the hottest paths of
+ * world generation, they are only tracked when the {@code tfc.debugCacheStatistics} system property is set, and are reported in {@link #toString()}.
  */
 public class FastConcurrentCache<T>
 {
-    private final StampedLock lock = new StampedLock();
+    private static final boolean TRACK_STATISTICS = Boolean.getBoolean("tfc.debugCacheStatistics");
 
-    private final long[] keys;
-    private final T[] values;
-    private final int mask;
+    private final AtomicReferenceArray<Entry<T>> entries;
+    private final int setMask;
+    private final int waysBits;
+    private final int ways;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
-    @SuppressWarnings("unchecked")
     public FastConcurrentCache(int size)
     {
-        size = Mth.smallestEncompassingPowerOfTwo(size);
+        this(size, 1);
+    }
 
-        this.mask = size - 1;
-        this.keys = new long[size];
-        this.values = (T[]) new Object[size];
+    /**
+     * @param size The total number of entries in the cache. Rounded up to a power of two.
+     * @param ways The associativity, or number of entries per set. Rounded up to a power of two, and no larger than {@code size}.
+     */
+    public FastConcurrentCache(int size, int ways)
+    {
+        size = Mth.smallestEncompassingPowerOfTwo(size);
+        ways = Math.min(size, Mth.smallestEncompassingPowerOfTwo(Math.max(1, ways)));
 
-        Arrays.fill(this.keys, Long.MIN_VALUE);
+        this.ways = ways;
+        this.waysBits = Mth.log2(ways);
+        this.setMask = (size >> waysBits) - 1;
+        this.entries = new AtomicReferenceArray<>(size);
     }
 
     @Nullable
     public T getIfPresent(int x, int z)
     {
-        final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.readLock();
+        return getIfPresent(ChunkPos.asLong(x, z));
+    }
 
-        T t = null;
-        if (keys[index] == key)
+    /**
+     * Queries the cache with an arbitrary key. Keys should be unique to the cached value, or, values should be validated by the caller.
+     */
+    @Nullable
+    public T getIfPresent(long key)
+    {
+        final int start = setIndex(key);
+
+        for (int i = 0; i < ways; i++)
         {
-            t = values[index];
+            final Entry<T> entry = entries.get(start + i);
+            if (entry != null && entry.key == key)
+            {
+                if (TRACK_STATISTICS)
+                {
+                    hits.increment();
+                }
+                return entry.value;
+            }
         }
-
-        lock.unlockRead(stamp);
-        return t;
+        if (TRACK_STATISTICS)
+        {
+            misses.increment();
+        }
+        return null;
     }
 
     public void set(int x, int z, T value)
     {
-        final long key = ChunkPos.asLong(x, z);
-        final int index = (int) HashCommon.mix(key) & mask;
-        final long stamp = lock.writeLock();
+        set(ChunkPos.asLong(x, z), value);
+    }
+
+    public void set(long key, T value)
+    {
+        final int start = setIndex(key);
+        final Entry<T> newEntry = new Entry<>(key, value);
+
+        // Prefer replacing an existing entry for the same key, then an empty slot
+        int emptySlot = -1;
+        for (int i = 0; i < ways; i++)
+        {
+            final Entry<T> entry = entries.get(start + i);
+            if (entry == null)
+            {
+                if (emptySlot == -1)
+                {
+                    emptySlot = start + i;
+                }
+            }
+            else if (entry.key == key)
+            {
+                entries.set(start + i, newEntry);
+                return;
+            }
+        }
+
+        if (emptySlot != -1 && entries.compareAndSet(emptySlot, null, newEntry))
+        {
+            return;
+        }
+
+        // Otherwise, pick a victim within the set. This is pseudo-random (based on the key's hash) rather than LRU, which would require
+        // writes on every read. Concurrent writers to the same slot simply race, and one wins, which is acceptable for a lossy cache.
+        final int victim = start + ((int) (HashCommon.mix(key) >>> 32) & (ways - 1));
+        final Entry<T> previous = entries.getAndSet(victim, newEntry);
+        if (TRACK_STATISTICS && previous != null && previous.key != key)
+        {
+            evictions.increment();
+        }
+    }
+
+    /**
+     * @return The number of hits, if statistics are being tracked, otherwise zero. Same for {@link #misses()} and {@link #evictions()}.
+     */
+    public long hits()
+    {
+        return hits.sum();
+    }
+
+    public long misses()
+    {
+        return misses.sum();
+    }
+
+    public long evictions()
+    {
+        return evictions.sum();
+    }
 
-        keys[index] = key;
-        values[index] = value;
+    public int size()
+    {
+        return entries.length();
+    }
 
-        lock.unlockWrite(stamp);
+    public void resetStatistics()
+    {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
     }
+
+    @Override
+    public String toString()
+    {
+        final long hits = hits(), misses = misses(), total = hits + misses;
+        return "FastConcurrentCache[size=%d, ways=%d, hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%]".formatted(size(), ways, hits, misses, evictions(), total == 0 ? 0f : 100f * hits / total);
+    }
+
+    private int setIndex(long key)
+    {
+        return ((int) HashCommon.mix(key) & setMask) << waysBits;
+    }
+
+    record Entry<T>(long key, @Nullable T value) {}
 }
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.world;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -23,7 +24,6 @@ import com.mojang.serialization.DataResult;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
-import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
@@ -76,9 +76,12 @@ import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplateManager;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.fml.ModList;
 import net.minecraftforge.registries.DeferredRegister;
 import org.jetbrains.annotations.Nullable;
 
+import net.dries007.tfc.config.TFCConfig;
 import net.dries007.tfc.mixin.accessor.ChunkAccessAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkGeneratorAccessor;
 import net.dries007.tfc.mixin.accessor.ChunkMapAccessor;
@@ -141,6 +144,8 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     private long noiseSamplerSeed;
     private SurfaceManager surfaceManager;
     private NoiseSampler noiseSampler;
+    private BiomeSampleCache biomeSampleCache;
+    private BaseHeightCache baseHeightCache;
 
     public TFCChunkGenerator(BiomeSourceExtension biomeSource, Holder<NoiseGeneratorSettings> noiseSettings, Settings settings)
     {
@@ -151,7 +156,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         this.settings = settings;
 
         this.stupidMojangChunkGenerator = new NoiseBasedChunkGenerator(biomeSource.self(), noiseSettings);
-        this.aquiferCache = new FastConcurrentCache<>(256);
+        this.aquiferCache = new FastConcurrentCache<>(256, 4);
     }
 
     @Override
@@ -211,7 +216,9 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         final long seed = level.getSeed();
         final RandomSource random = new XoroshiroRandomSource(seed);
 
-        final RegionGenerator regionGenerator = new RegionGenerator(settings, random);
+        // Regions are stored per mod version, as the output of region generation may change between versions
+        final Path regionStorageRoot = TFCConfig.COMMON.enableRegionStorage.get() ? level.getServer().getWorldPath(LevelResource.ROOT).resolve("data").resolve("tfc").resolve("regions").resolve(ModList.get().getModFileById(MOD_ID).versionString()) : null;
+        final RegionGenerator regionGenerator = new RegionGenerator(settings, random, TFCConfig.COMMON.enableRegionPrefetch.get(), regionStorageRoot);
         final ChunkDataGenerator chunkDataGenerator = RegionChunkDataGenerator.create(random.nextLong(), settings.rockLayerSettings(), regionGenerator);
         final AreaFactory factory = TFCLayers.createRegionBiomeLayer(regionGenerator, random.nextLong());
         final ConcurrentArea<BiomeExtension> biomeLayer = new ConcurrentArea<>(factory, TFCLayers::getFromLayerId);
@@ -220,6 +227,8 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         this.noiseSampler = new NoiseSampler(random.nextLong(), level.registryAccess().lookupOrThrow(Registries.NOISE), level.registryAccess().lookupOrThrow(Registries.DENSITY_FUNCTION));
         this.chunkDataProvider = new ChunkDataProvider(chunkDataGenerator);
         this.surfaceManager = new SurfaceManager(seed);
+        this.biomeSampleCache = new BiomeSampleCache(this::sampleBiomeNoRiver);
+        this.baseHeightCache = new BaseHeightCache(this::createHeightFillerForChunk);
 
         this.customBiomeSource.initRandomState(regionGenerator, biomeLayer);
 
@@ -231,7 +240,7 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
 
     public ChunkHeightFiller createHeightFillerForChunk(ChunkPos pos)
     {
-        final Object2DoubleMap<BiomeExtension>[] biomeWeights = ChunkBiomeSampler.sampleBiomes(pos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
+        final BiomeWeights[] biomeWeights = biomeSampleCache.sampleBiomes(pos);
         return new ChunkHeightFiller(biomeWeights, customBiomeSource, createBiomeSamplersForChunk(null), createRiverSamplersForChunk(), createShoreSamplerForChunk(), getSeaLevel());
     }
 
@@ -437,18 +446,30 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
             sections.add(section);
         }
 
-        final Object2DoubleMap<BiomeExtension>[] biomeWeights = ChunkBiomeSampler.sampleBiomes(chunkPos, this::sampleBiomeNoRiver, BiomeExtension::biomeBlendType);
+        final BiomeWeights[] biomeWeights = biomeSampleCache.sampleBiomes(chunkPos);
         final ChunkBaseBlockSource baseBlockSource = createBaseBlockSourceForChunk(chunk);
         final ChunkNoiseFiller filler = new ChunkNoiseFiller((ProtoChunk) chunk, biomeWeights, customBiomeSource, createBiomeSamplersForChunk(chunk), createRiverSamplersForChunk(), createShoreSamplerForChunk(), noiseSampler, baseBlockSource, settings, getSeaLevel(), Beardifier.forStructuresInChunk(structureFeatureManager, chunkPos));
 
-        return CompletableFuture.supplyAsync(() -> {
-            filler.sampleAquiferSurfaceHeight(this::sampleBiomeNoRiver);
-            chunkData.generateFull(filler.surfaceHeight(), filler.aquifer().surfaceHeights());
-            chunkData.getRockData().useCache(chunkPos);
-            filler.fillFromNoise();
-
-            aquiferCache.set(chunkPos.x, chunkPos.z, filler.aquifer());
+        if (TFCConfig.COMMON.enableParallelSurfaceBuilding.get())
+        {
+            // Build surfaces in the same task, while still holding the section locks, so no other thread can observe the chunk between the two passes.
+            // Surface writes go directly to the sections, like the noise filler, as the locks are not re-entrant.
+            return CompletableFuture.supplyAsync(() -> {
+                try
+                {
+                    fillFromNoise(filler, chunkData, chunkPos);
+                    surfaceManager.buildSurface(actualLevel, chunk, rockLayerSettings(), chunkData, filler.localBiomes(), filler.localBiomesNoRivers(), filler.localBiomeWeights(), filler.createSlopeMap(), random, getSeaLevel(), settings.minY(), true);
+                }
+                finally
+                {
+                    sections.forEach(LevelChunkSection::release);
+                }
+                return chunk;
+            }, Util.backgroundExecutor());
+        }
 
+        return CompletableFuture.supplyAsync(() -> {
+            fillFromNoise(filler, chunkData, chunkPos);
             return chunk;
         }, Util.backgroundExecutor()).whenCompleteAsync((ret, error) -> {
             // Unlock before surfaces are built, as they use locks directly
@@ -458,6 +479,16 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
         }, mainExecutor);
     }
 
+    private void fillFromNoise(ChunkNoiseFiller filler, ChunkData chunkData, ChunkPos chunkPos)
+    {
+        filler.sampleAquiferSurfaceHeight(this::sampleBiomeNoRiver);
+        chunkData.generateFull(filler.surfaceHeight(), filler.aquifer().surfaceHeights());
+        chunkData.getRockData().useCache(chunkPos);
+        filler.fillFromNoise();
+
+        aquiferCache.set(chunkPos.x, chunkPos.z, filler.aquifer());
+    }
+
     @Override
     public int getSeaLevel()
     {
@@ -473,8 +504,17 @@ public class TFCChunkGenerator extends ChunkGenerator implements ChunkGeneratorE
     @Override
     public int getBaseHeight(int x, int z, Heightmap.Types type, LevelHeightAccessor level, RandomState state)
     {
-        final ChunkPos pos = new ChunkPos(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
-        return (int) createHeightFillerForChunk(pos).sampleHeight(x, z);
+        return baseHeightCache.getHeight(x, z);
+    }
+
+    /**
+     * A batch equivalent of {@link #getBaseHeight(int, int, Heightmap.Types, LevelHeightAccessor, RandomState)}, for querying many positions at once.
+     *
+     * @see BaseHeightCache#getHeights(int[], int[], int[])
+     */
+    public void getBaseHeights(int[] blockX, int[] blockZ, int[] heights)
+    {
+        baseHeightCache.getHeights(blockX, blockZ, heights);
     }
 
     @Override
@@ -9,6 +9,7 @@ package net.dries007.tfc.world.biome;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 import net.minecraft.core.Holder;
@@ -28,7 +29,18 @@ import net.dries007.tfc.world.surface.builder.SurfaceBuilderFactory;
  */
 public class BiomeExtension
 {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    /**
+     * @return An upper bound on {@link #id()} for all created extensions.
+     */
+    public static int count()
+    {
+        return NEXT_ID.get();
+    }
+
     private final ResourceKey<Biome> key;
+    private final int id;
 
     @Nullable private final LongFunction<BiomeNoiseSampler> noiseFactory;
     private final AquiferLookahead aquiferSurfaceHeight;
@@ -52,6 +64,7 @@ public class BiomeExtension
     BiomeExtension(ResourceKey<Biome> key, @Nullable LongFunction<BiomeNoiseSampler> noiseFactory, SurfaceBuilderFactory surfaceBuilderFactory, AquiferLookahead aquiferSurfaceHeight, BiomeBlendType biomeBlendType, RiverBlendType riverBlendType, boolean salty, boolean volcanic, int volcanoRarity, int volcanoBasaltHeight, boolean spawnable, boolean rivers, boolean shore, boolean sandyRiverShores)
     {
         this.key = key;
+        this.id = NEXT_ID.getAndIncrement();
         this.noiseFactory = noiseFactory;
         this.surfaceBuilderFactory = surfaceBuilderFactory;
         this.aquiferSurfaceHeight = aquiferSurfaceHeight;
@@ -72,6 +85,14 @@ public class BiomeExtension
         return key;
     }
 
+    /**
+     * @return A small, unique, non-negative integer identifying this extension, suitable for indexing into arrays. Not stable across game restarts.
+     */
+    public int id()
+    {
+        return id;
+    }
+
     public BiomeBlendType biomeBlendType()
     {
         return biomeBlendType;
@@ -205,7 +205,7 @@ public class ChunkData
         assert status == Status.FULL;
         assert rainfallLayer != null && temperatureLayer != null;
 
-        return new ChunkWatchPacket(pos.x, pos.z, rainfallLayer, temperatureLayer, forestType, forestDensity, forestWeirdness);
+        return new ChunkWatchPacket(pos.x, pos.z, rainfallLayer, temperatureLayer, forestType, forestWeirdness, forestDensity);
     }
 
     /**
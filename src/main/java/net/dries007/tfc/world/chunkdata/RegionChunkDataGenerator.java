@@ -100,13 +100,13 @@ public record RegionChunkDataGenerator(
 
         // In this formulation, the value represented by a grid point's rainfall / temperature is interpreted to be at the 0,0 exact grid position,
         // meaning if we want smooth interpolation, we need to sample a 2x2 grid of points and compute the local values within the grid square
-        final Region.Point point00 = regionGenerator.getOrCreateRegionPoint(gridX, gridZ);
-        final Region.Point point01 = regionGenerator.getOrCreateRegionPoint(gridX, gridZ + 1);
-        final Region.Point point10 = regionGenerator.getOrCreateRegionPoint(gridX + 1, gridZ);
-        final Region.Point point11 = regionGenerator.getOrCreateRegionPoint(gridX + 1, gridZ + 1);
+        final Region region00 = regionGenerator.getOrCreateRegion(gridX, gridZ);
+        final Region region01 = regionGenerator.getOrCreateRegion(gridX, gridZ + 1);
+        final Region region10 = regionGenerator.getOrCreateRegion(gridX + 1, gridZ);
+        final Region region11 = regionGenerator.getOrCreateRegion(gridX + 1, gridZ + 1);
 
-        final LerpFloatLayer rainfallGridLayer = new LerpFloatLayer(point00.rainfall, point01.rainfall, point10.rainfall, point11.rainfall);
-        final LerpFloatLayer temperatureGridLayer = new LerpFloatLayer(point00.temperature, point01.temperature, point10.temperature, point11.temperature);
+        final LerpFloatLayer rainfallGridLayer = new LerpFloatLayer(region00.rainfallAt(gridX, gridZ), region01.rainfallAt(gridX, gridZ + 1), region10.rainfallAt(gridX + 1, gridZ), region11.rainfallAt(gridX + 1, gridZ + 1));
+        final LerpFloatLayer temperatureGridLayer = new LerpFloatLayer(region00.temperatureAt(gridX, gridZ), region01.temperatureAt(gridX, gridZ + 1), region10.temperatureAt(gridX + 1, gridZ), region11.temperatureAt(gridX + 1, gridZ + 1));
 
         // The exact grid coordinates of the bottom (00) value of this chunk
         final double exactGridX = Units.blockToGridExact(blockX);
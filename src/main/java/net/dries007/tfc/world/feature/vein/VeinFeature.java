@@ -10,10 +10,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.HashCommon;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.Blocks;
@@ -30,14 +33,24 @@ import org.jetbrains.annotations.Nullable;
 import net.dries007.tfc.common.fluids.FluidHelpers;
 import net.dries007.tfc.util.EnvironmentHelpers;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.world.FastConcurrentCache;
 
 public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extends Feature<C>
 {
     private static final int MAX_VEIN_Y_NO_ORE_PLACED = Integer.MIN_VALUE;
 
+    /**
+     * Veins are generated once per chunk, but are queried by every chunk within their radius. They are fully determined by the seed, config and chunk,
+     * so we cache the veins at each (config, chunk), shared between all worldgen threads. Since this feature is shared by many configs, and potentially levels,
+     * the key is not unique, and cached values must be validated before use. Veins are filtered by biome, so this includes the dimension, as two dimensions
+     * with the same seed and config may have different biomes.
+     */
+    private final FastConcurrentCache<CachedVeins<C, V>> veinCache;
+
     public VeinFeature(Codec<C> codec)
     {
         super(codec);
+        this.veinCache = new FastConcurrentCache<>(8192, 4);
     }
 
     @Override
@@ -50,7 +63,7 @@ public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extend
         final WorldGenerationContext generationContext = new WorldGenerationContext(context.chunkGenerator(), level);
 
         final ChunkPos chunkPos = new ChunkPos(pos);
-        final List<V> veins = getNearbyVeins(level, generationContext, chunkPos, config.chunkRadius(), config, level::getBiome);
+        final List<V> veins = getNearbyVeinsCached(level, generationContext, chunkPos, config.chunkRadius(), config);
         if (!veins.isEmpty())
         {
             for (V vein : veins)
@@ -75,6 +88,41 @@ public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extend
         return veins;
     }
 
+    /**
+     * Equivalent to {@link #getNearbyVeins}, using the level for biome queries, but caches the veins at each chunk.
+     */
+    private List<V> getNearbyVeinsCached(WorldGenLevel level, WorldGenerationContext context, ChunkPos pos, int radius, C config)
+    {
+        final List<V> veins = new ArrayList<>();
+        for (int x = pos.x - radius; x <= pos.x + radius; x++)
+        {
+            for (int z = pos.z - radius; z <= pos.z + radius; z++)
+            {
+                veins.addAll(getVeinsAtChunkCached(level, context, x, z, config));
+            }
+        }
+        return veins;
+    }
+
+    private List<V> getVeinsAtChunkCached(WorldGenLevel level, WorldGenerationContext context, int chunkPosX, int chunkPosZ, C config)
+    {
+        final long seed = level.getSeed();
+        final ResourceKey<Level> dimension = level.getLevel().dimension();
+        final long key = HashCommon.mix(ChunkPos.asLong(chunkPosX, chunkPosZ)) ^ config.config().seed() ^ dimension.hashCode();
+        final CachedVeins<C, V> cached = veinCache.getIfPresent(key);
+        if (cached != null && cached.matches(seed, dimension, config, context, chunkPosX, chunkPosZ))
+        {
+            return cached.veins;
+        }
+
+        final List<V> veins = new ArrayList<>(1);
+        getVeinsAtChunk(level, context, chunkPosX, chunkPosZ, veins, config, level::getBiome);
+
+        final List<V> result = veins.isEmpty() ? List.of() : veins;
+        veinCache.set(key, new CachedVeins<>(seed, dimension, config, context.getMinGenY(), context.getGenDepth(), chunkPosX, chunkPosZ, result));
+        return result;
+    }
+
     public final void getVeinsAtChunk(WorldGenLevel level, WorldGenerationContext context, int chunkPosX, int chunkPosZ, List<V> veins, C config, Function<BlockPos, Holder<Biome>> biomeQuery)
     {
         final RandomSource random = new XoroshiroRandomSource(level.getSeed() ^ chunkPosX * 61728364132L, config.config().seed() ^ chunkPosZ * 16298364123L);
@@ -244,6 +292,14 @@ public abstract class VeinFeature<C extends IVeinConfig, V extends IVein> extend
      */
     protected abstract BoundingBox getBoundingBox(C config, V vein);
 
+    record CachedVeins<C, V>(long seed, ResourceKey<Level> dimension, C config, int minY, int depth, int chunkX, int chunkZ, List<V> veins)
+    {
+        boolean matches(long seed, ResourceKey<Level> dimension, C config, WorldGenerationContext context, int chunkX, int chunkZ)
+        {
+            return this.seed == seed && this.dimension.equals(dimension) && this.config == config && minY == context.getMinGenY() && depth == context.getGenDepth() && this.chunkX == chunkX && this.chunkZ == chunkZ;
+        }
+    }
+
     private boolean isNearLava(WorldGenLevel level, BlockPos.MutableBlockPos cursor, int x, int z)
     {
         final int lavaY = -55;
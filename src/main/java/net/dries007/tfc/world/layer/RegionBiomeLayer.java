@@ -6,21 +6,15 @@
 
 package net.dries007.tfc.world.layer;
 
-import net.dries007.tfc.world.layer.framework.Area;
-import net.dries007.tfc.world.layer.framework.AreaFactory;
-import net.dries007.tfc.world.layer.framework.TypedArea;
-import net.dries007.tfc.world.layer.framework.TypedAreaFactory;
-import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.layer.framework.AreaContext;
+import net.dries007.tfc.world.layer.framework.SourceLayer;
+import net.dries007.tfc.world.region.RegionGenerator;
 
-public enum RegionBiomeLayer
+public record RegionBiomeLayer(RegionGenerator generator) implements SourceLayer
 {
-    INSTANCE;
-
-    public AreaFactory apply(TypedAreaFactory<Region.Point> prev)
+    @Override
+    public int apply(AreaContext context, int x, int z)
     {
-        return () -> {
-            final TypedArea<Region.Point> prevArea = prev.get();
-            return new Area((x, z) -> prevArea.get(x, z).biome, 1024);
-        };
+        return generator.getOrCreateRegion(x, z).biomeAt(x, z);
     }
 }
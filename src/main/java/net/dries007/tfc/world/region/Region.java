@@ -24,7 +24,8 @@ public final class Region
     private int maxZ;
     private int sizeX;
     private int sizeZ;
-    private Point[] data;
+    private @Nullable Point[] data; // Allocated lazily, as regions loaded from disk are packed directly, and never use points
+    private @Nullable Packed packed;
     private @Nullable List<RiverEdge> rivers;
 
     Region(Cellular2D.Cell cell)
@@ -43,13 +44,12 @@ public final class Region
 
         this.sizeX = 1 + maxX - minX;
         this.sizeZ = 1 + maxZ - minZ;
-
-        this.data = new Point[Units.REGION_WIDTH_IN_GRID * Units.REGION_WIDTH_IN_GRID];
     }
 
     public Point atInit(int gridX, int gridZ)
     {
         final int index = index(gridX, gridZ);
+        final Point[] data = data();
         final Point point = new Point();
 
         assert data[index] == null;
@@ -66,11 +66,12 @@ public final class Region
 
     /**
      * @return The {@link Point} at the specified grid coordinates. Errors if the coordinates are out of range of this {@link Region}'s bounding box and returns {@code null} if they are outside this {@link Region}.
+     * If this region is {@link #pack() packed}, this allocates a copy of the point, so prefer the primitive accessors, i.e. {@link #rainfallAt(int, int)}, in hot paths.
      */
     @Nullable
     public Point at(int gridX, int gridZ)
     {
-        return data[index(gridX, gridZ)];
+        return pointAt(index(gridX, gridZ));
     }
 
     /**
@@ -79,7 +80,31 @@ public final class Region
     @Nullable
     public Point maybeAt(int gridX, int gridZ)
     {
-        return isIn(gridX, gridZ) ? data[index(gridX, gridZ)] : null;
+        return isIn(gridX, gridZ) ? pointAt(index(gridX, gridZ)) : null;
+    }
+
+    public float rainfallAt(int gridX, int gridZ)
+    {
+        final int index = requireIndex(gridX, gridZ);
+        return packed != null ? packed.rainfall(index) : data[index].rainfall;
+    }
+
+    public float temperatureAt(int gridX, int gridZ)
+    {
+        final int index = requireIndex(gridX, gridZ);
+        return packed != null ? packed.temperature(index) : data[index].temperature;
+    }
+
+    public int biomeAt(int gridX, int gridZ)
+    {
+        final int index = requireIndex(gridX, gridZ);
+        return packed != null ? packed.biome(index) : data[index].biome;
+    }
+
+    public int rockAt(int gridX, int gridZ)
+    {
+        final int index = requireIndex(gridX, gridZ);
+        return packed != null ? packed.rock(index) : data[index].rock;
     }
 
     /**
@@ -124,6 +149,8 @@ public final class Region
 
     public void setRegionArea(Point[] data, int minX, int minZ, int maxX, int maxZ)
     {
+        assert packed == null : "Region is already packed";
+
         this.data = data;
         this.minX = minX;
         this.minZ = minZ;
@@ -142,9 +169,74 @@ public final class Region
     }
 
 
-    public Point[] data() { return data; }
+    /**
+     * Converts this region into a packed, {@link Packed struct-of-arrays} representation, and discards the individual {@link Point}s. This is done once all
+     * generation tasks have completed, as regions are long-lived in caches, and the packed representation is both much smaller, and avoids one heap object per point.
+     * <p>
+     * After packing, {@link #data()} is no longer accessible, and {@link Point}s returned from this region are copies, which are not written back to the region.
+     */
+    public void pack()
+    {
+        assert packed == null : "Region is already packed";
+
+        final Point[] data = data();
+        final Packed packed = new Packed(data.length);
+        for (int i = 0; i < data.length; i++)
+        {
+            final Point point = data[i];
+            if (point != null)
+            {
+                packed.set(i, point);
+            }
+        }
+
+        this.packed = packed;
+        this.data = null;
+    }
+
+    void setPacked(Packed packed, int minX, int minZ, int maxX, int maxZ)
+    {
+        this.data = null;
+        this.packed = packed;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxZ = maxZ;
+        this.sizeX = 1 + maxX - minX;
+        this.sizeZ = 1 + maxZ - minZ;
+
+        assert packed.size() == sizeX * sizeZ : "setPacked() packed.size() = %d != sizeX (%d) * sizeZ (%d)".formatted(packed.size(), sizeX, sizeZ);
+    }
+
+    /**
+     * @return The mutable {@link Point}s of this region, during generation. Errors if this region has been {@link #pack() packed}.
+     */
+    public Point[] data()
+    {
+        assert packed == null : "Region is packed";
+        if (data == null)
+        {
+            data = new Point[sizeX * sizeZ];
+        }
+        return data;
+    }
+
+    @Nullable public Packed packed() { return packed; }
     public List<RiverEdge> rivers() { assert rivers != null; return rivers; }
 
+    @Nullable
+    private Point pointAt(int index)
+    {
+        return packed != null ? packed.copyOf(index) : data != null ? data[index] : null;
+    }
+
+    private int requireIndex(int gridX, int gridZ)
+    {
+        final int index = index(gridX, gridZ);
+        assert packed != null ? packed.isPresent(index) : data != null && data[index] != null : "Region %s does not contain point at (%d, %d)".formatted(this, gridX, gridZ);
+        return index;
+    }
+
     @Override
     public String toString()
     {
@@ -194,4 +286,100 @@ public final class Region
         public void setMountain() { flags |= FLAG_MOUNTAIN; }
         public void setCoastalMountain() { flags |= FLAG_COASTAL_MOUNTAIN; }
     }
+
+    /**
+     * A packed, struct-of-arrays representation of the {@link Point}s in a {@link Region}, where each field of {@link Point} is stored in a parallel array, indexed by {@link Region#index(int, int)}.
+     * Indices which do not contain a point are tracked by {@link #present}.
+     */
+    public static final class Packed
+    {
+        final long[] present;
+
+        final byte[] distanceToOcean;
+        final byte[] distanceToEdge;
+        final byte[] baseOceanDepth;
+        final byte[] baseLandHeight;
+        final byte[] biomeAltitude;
+
+        final float[] rainfall;
+        final float[] temperature;
+
+        final int[] biome;
+        final int[] rock;
+
+        final short[] flags;
+
+        Packed(int size)
+        {
+            this.present = new long[(size + 63) >> 6];
+            this.distanceToOcean = new byte[size];
+            this.distanceToEdge = new byte[size];
+            this.baseOceanDepth = new byte[size];
+            this.baseLandHeight = new byte[size];
+            this.biomeAltitude = new byte[size];
+            this.rainfall = new float[size];
+            this.temperature = new float[size];
+            this.biome = new int[size];
+            this.rock = new int[size];
+            this.flags = new short[size];
+        }
+
+        public int size()
+        {
+            return biome.length;
+        }
+
+        public boolean isPresent(int index)
+        {
+            return (present[index >> 6] & (1L << index)) != 0;
+        }
+
+        public float rainfall(int index) { return rainfall[index]; }
+        public float temperature(int index) { return temperature[index]; }
+        public int biome(int index) { return biome[index]; }
+        public int rock(int index) { return rock[index]; }
+
+        /**
+         * @return A new copy of the point at {@code index}, or {@code null} if there is no point present. Modifying the copy does not modify this.
+         */
+        @Nullable
+        public Point copyOf(int index)
+        {
+            if (!isPresent(index))
+            {
+                return null;
+            }
+
+            final Point point = new Point();
+
+            point.distanceToOcean = distanceToOcean[index];
+            point.distanceToEdge = distanceToEdge[index];
+            point.baseOceanDepth = baseOceanDepth[index];
+            point.baseLandHeight = baseLandHeight[index];
+            point.biomeAltitude = biomeAltitude[index];
+            point.rainfall = rainfall[index];
+            point.temperature = temperature[index];
+            point.biome = biome[index];
+            point.rock = rock[index];
+            point.flags = flags[index];
+
+            return point;
+        }
+
+        void set(int index, Point point)
+        {
+            present[index >> 6] |= 1L << index;
+
+            distanceToOcean[index] = point.distanceToOcean;
+            distanceToEdge[index] = point.distanceToEdge;
+            baseOceanDepth[index] = point.baseOceanDepth;
+            baseLandHeight[index] = point.baseLandHeight;
+            biomeAltitude[index] = point.biomeAltitude;
+            rainfall[index] = point.rainfall;
+            temperature[index] = point.temperature;
+            biome[index] = point.biome;
+            rock[index] = point.rock;
+            flags[index] = point.flags;
+        }
+    }
 }
@@ -6,14 +6,22 @@
 
 package net.dries007.tfc.world.region;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import com.mojang.logging.LogUtils;
+import net.minecraft.Util;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
 
 import net.dries007.tfc.world.FastConcurrentCache;
 import net.dries007.tfc.world.layer.TFCLayers;
@@ -29,6 +37,8 @@ import net.dries007.tfc.world.settings.Settings;
  */
 public class RegionGenerator
 {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
     private static double triangle(double frequency, double value)
     {
         return Math.abs(4f * frequency * value + 1f - 4f * Mth.floor(frequency * value + 0.75f)) - 1f;
@@ -54,17 +64,34 @@ public class RegionGenerator
     private final long seed;
     private final FastConcurrentCache<Region> cellCache;
     private final FastConcurrentCache<RegionPartition> partitionCache;
+    private final ConcurrentHashMap<Long, CompletableFuture<Region>> inFlightRegions;
+    private final boolean prefetchRegions;
+    private final @Nullable RegionStorage storage;
 
     public RegionGenerator(Settings settings, RandomSource random)
+    {
+        this(settings, random, false, null);
+    }
+
+    /**
+     * @param prefetchRegions If {@code true}, when building a partition, regions in the surrounding cells which are not yet cached will be built asynchronously on {@link Util#backgroundExecutor()}, rather than sequentially on the calling thread.
+     * @param storageRoot If not {@code null}, a directory in which generated regions are persisted, and loaded from, via a {@link RegionStorage}.
+     */
+    public RegionGenerator(Settings settings, RandomSource random, boolean prefetchRegions, @Nullable Path storageRoot)
     {
         this.seed = random.nextLong();
+        this.prefetchRegions = prefetchRegions;
+        this.storage = storageRoot == null ? null : RegionStorage.create(storageRoot, seed, settings);
 
         this.cellNoise = new Cellular2D(random.nextLong()).spread(1f / Units.CELL_WIDTH_IN_GRID);
 
         // Both of these caches are queried, and cached, on a cell-coordinate basis
         // Since cells are large (~12km), a small concurrent cache should be enough
-        this.cellCache = new FastConcurrentCache<>(256);
-        this.partitionCache = new FastConcurrentCache<>(256);
+        this.cellCache = new FastConcurrentCache<>(256, 4);
+        this.partitionCache = new FastConcurrentCache<>(256, 4);
+
+        // Regions which are currently being built, so that concurrent requests for the same cell wait on a single build
+        this.inFlightRegions = new ConcurrentHashMap<>();
 
         float min = settings.continentalness() * 10f - 2.5f; // range [0, 1], default 0.5 -> 2.5 continentalness
         this.continentNoise = cellNoise.then(c -> 1 - c.f1() / (0.37f + c.f2()))
@@ -144,24 +171,44 @@ public class RegionGenerator
 
     private List<Region> getAllRegionsIn3x3CellArea(int cellX, int cellZ)
     {
-        final List<Region> regions = new ArrayList<>(9);
+        final Cellular2D.Cell[] cells = new Cellular2D.Cell[9];
         for (int dx = -1; dx <= 1; dx++)
         {
             for (int dz = -1; dz <= 1; dz++)
             {
-                final Cellular2D.Cell regionCell = sampleCell(Units.cellToGrid(cellX + dx), Units.cellToGrid(cellZ + dz));
-                regions.add(getOrCreateRegion(regionCell));
+                cells[(dx + 1) * 3 + (dz + 1)] = sampleCell(Units.cellToGrid(cellX + dx), Units.cellToGrid(cellZ + dz));
             }
         }
-        return regions;
-    }
 
-    public Region.Point getOrCreateRegionPoint(int gridX, int gridZ)
-    {
-        return getOrCreateRegion(gridX, gridZ).requireAt(gridX, gridZ);
+        if (prefetchRegions)
+        {
+            // Start building any regions that are neither present, nor already being built, in parallel. The calling thread will then pick up (and build) any
+            // that have not been started yet, and wait on the ones that are in progress
+            for (Cellular2D.Cell cell : cells)
+            {
+                final int cellX = cellKeyX(cell), cellZ = cellKeyZ(cell);
+                if (cellCache.getIfPresent(cellX, cellZ) == null && !inFlightRegions.containsKey(ChunkPos.asLong(cellX, cellZ)))
+                {
+                    CompletableFuture.runAsync(() -> prefetchRegion(cell), Util.backgroundExecutor())
+                        .exceptionally(e -> {
+                            LOGGER.error("Error prefetching region at cell {}, {}", cell.x(), cell.y(), e);
+                            return null;
+                        });
+                }
+            }
+        }
+
+        final List<Region> regions = new ArrayList<>(9);
+        for (Cellular2D.Cell cell : cells)
+        {
+            regions.add(getOrCreateRegion(cell));
+        }
+        return regions;
     }
 
-    @VisibleForTesting
+    /**
+     * @return The region containing the grid point {@code (gridX, gridZ)}. Values at that point should be read with the primitive accessors, i.e. {@link Region#rainfallAt(int, int)}, which do not allocate.
+     */
     public Region getOrCreateRegion(int gridX, int gridZ)
     {
         return getOrCreateRegion(sampleCell(gridX, gridZ));
@@ -169,21 +216,90 @@ public class RegionGenerator
 
     private Region getOrCreateRegion(Cellular2D.Cell cell)
     {
-        final int cellX = Float.floatToIntBits((float) cell.x());
-        final int cellZ = Float.floatToIntBits((float) cell.y());
+        final int cellX = cellKeyX(cell);
+        final int cellZ = cellKeyZ(cell);
 
         Region entry = cellCache.getIfPresent(cellX, cellZ);
         if (entry == null)
         {
-            entry = createRegion(cell, (id, r) -> {});
-            cellCache.set(cellX, cellZ, entry);
+            // Either claim the build of this region, and build it on the calling thread, or wait on the build already in progress on another thread
+            final long key = ChunkPos.asLong(cellX, cellZ);
+            final CompletableFuture<Region> future = new CompletableFuture<>();
+            final CompletableFuture<Region> existing = inFlightRegions.putIfAbsent(key, future);
+            entry = existing != null ? existing.join() : buildRegion(cell, cellX, cellZ, key, future);
         }
         return entry;
     }
 
+    /**
+     * Builds the region at the given cell, unless it is already present, or another thread has claimed its build, in which case this returns immediately.
+     */
+    private void prefetchRegion(Cellular2D.Cell cell)
+    {
+        final int cellX = cellKeyX(cell);
+        final int cellZ = cellKeyZ(cell);
+        if (cellCache.getIfPresent(cellX, cellZ) == null)
+        {
+            final long key = ChunkPos.asLong(cellX, cellZ);
+            final CompletableFuture<Region> future = new CompletableFuture<>();
+            if (inFlightRegions.putIfAbsent(key, future) == null)
+            {
+                buildRegion(cell, cellX, cellZ, key, future);
+            }
+        }
+    }
+
+    /**
+     * Builds the region at the given cell, having claimed its build with {@code future}. The future is then completed, and the claim released.
+     */
+    private Region buildRegion(Cellular2D.Cell cell, int cellX, int cellZ, long key, CompletableFuture<Region> future)
+    {
+        try
+        {
+            // Another thread may have finished building, and released its claim, in between our cache miss and now
+            Region entry = cellCache.getIfPresent(cellX, cellZ);
+            if (entry == null)
+            {
+                entry = storage != null ? storage.load(cell, cellX, cellZ) : null;
+                if (entry == null)
+                {
+                    entry = createRegion(cell, (id, r) -> {});
+                    if (storage != null)
+                    {
+                        storage.save(entry, cellX, cellZ);
+                    }
+                }
+                cellCache.set(cellX, cellZ, entry);
+            }
+            future.complete(entry);
+            return entry;
+        }
+        catch (Throwable t)
+        {
+            future.completeExceptionally(t);
+            throw t;
+        }
+        finally
+        {
+            inFlightRegions.remove(key, future);
+        }
+    }
+
+    private static int cellKeyX(Cellular2D.Cell cell)
+    {
+        return Float.floatToIntBits((float) cell.x());
+    }
+
+    private static int cellKeyZ(Cellular2D.Cell cell)
+    {
+        return Float.floatToIntBits((float) cell.y());
+    }
+
     private Region createRegion(Cellular2D.Cell regionCell, BiConsumer<Task, Region> viewer)
     {
-        return new Context(viewer, regionCell, seed).runTasks().region;
+        final Region region = new Context(viewer, regionCell, seed).runTasks().region;
+        region.pack();
+        return region;
     }
 
     public Cellular2D.Cell sampleCell(int gridX, int gridZ)
@@ -0,0 +1,287 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.world.region;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.Util;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.river.MidpointFractal;
+import net.dries007.tfc.world.river.River;
+import net.dries007.tfc.world.settings.Settings;
+
+/**
+ * A persistent, on-disk cache of generated {@link Region}s. Regions are expensive to generate, and completely determined by the world seed and {@link Settings}, so
+ * they are stored in the world save, under a directory keyed by both, so that a restarted server (or another dimension using the same seed and settings) can skip
+ * generation entirely.
+ * <p>
+ * The output of region generation changes between versions of TFC, so the storage root is expected to be specific to the mod version, and the key also includes
+ * the list of {@link RegionGenerator.Task}s. Regions stored by any other version are never loaded.
+ * <p>
+ * Each region is stored in a single, uncompressed binary file, in the same column layout as {@link Region.Packed}, which is loaded via a memory-mapped buffer. {@link RegionPartition}s are not stored, as they are
+ * quickly rebuilt from the surrounding regions' rivers.
+ * <p>
+ * Any errors reading or writing are logged, and then treated as a cache miss, as the region can always be regenerated.
+ */
+public final class RegionStorage
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int MAGIC = 0x54464352; // 'TFCR'
+    private static final int VERSION = 2; // Bump whenever the format changes
+
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 * 4;
+    private static final int POINT_BYTES = 5 + 4 * 2 + 4 * 2 + 2;
+    private static final int VERTEX_BYTES = 8 * 4 + 4;
+
+    /**
+     * @param root The root directory to store regions in, within the world save. This should be specific to the mod version.
+     * @param seed The seed of the {@link RegionGenerator}
+     * @param settings The settings used by the {@link RegionGenerator}. Only those which affect region generation are used to determine the key.
+     */
+    public static RegionStorage create(Path root, long seed, Settings settings)
+    {
+        long key = HashCommon.mix(seed ^ VERSION);
+        for (RegionGenerator.Task task : RegionGenerator.Task.values())
+        {
+            key = HashCommon.mix(key ^ task.name().hashCode());
+        }
+        key = HashCommon.mix(key ^ settings.temperatureScale());
+        key = HashCommon.mix(key ^ Float.floatToIntBits(settings.temperatureConstant()));
+        key = HashCommon.mix(key ^ settings.rainfallScale());
+        key = HashCommon.mix(key ^ Float.floatToIntBits(settings.rainfallConstant()));
+        key = HashCommon.mix(key ^ Float.floatToIntBits(settings.continentalness()));
+        return new RegionStorage(root.resolve("%016x".formatted(key)));
+    }
+
+    private final Path directory;
+
+    private RegionStorage(Path directory)
+    {
+        this.directory = directory;
+    }
+
+    @Nullable
+    Region load(Cellular2D.Cell cell, int cellX, int cellZ)
+    {
+        final Path path = pathFor(cellX, cellZ);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+        {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer, cell);
+        }
+        catch (NoSuchFileException e)
+        {
+            return null; // Not yet generated
+        }
+        catch (IOException | BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e)
+        {
+            LOGGER.warn("Unable to load region from {}, it will be regenerated: {}", path, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Saves a region asynchronously, on {@link Util#ioPool()}, as a region is around 1 MB, and this is called from world generation threads. The region must not
+     * be modified afterwards, which is the case once it is {@link Region#pack() packed}.
+     */
+    void save(Region region, int cellX, int cellZ)
+    {
+        CompletableFuture.runAsync(() -> saveNow(region, cellX, cellZ), Util.ioPool());
+    }
+
+    private void saveNow(Region region, int cellX, int cellZ)
+    {
+        final Path path = pathFor(cellX, cellZ);
+        try
+        {
+            final ByteBuffer buffer = write(region);
+
+            // Write to a unique temporary file first, so concurrent writers, or readers, never observe a partially written file
+            Files.createDirectories(directory);
+            final Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE))
+            {
+                while (buffer.hasRemaining())
+                {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to save region to {}: {}", path, e.toString());
+        }
+    }
+
+    private Path pathFor(int cellX, int cellZ)
+    {
+        return directory.resolve("r.%08x.%08x.bin".formatted(cellX, cellZ));
+    }
+
+    /**
+     * @return The region read from {@code buffer}, or {@code null} if the buffer is in a different format, or contains a different region than {@code cell}.
+     */
+    @Nullable
+    @VisibleForTesting
+    public static Region read(ByteBuffer buffer, Cellular2D.Cell cell)
+    {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || Double.compare(buffer.getDouble(), cell.noise()) != 0)
+        {
+            return null; // Different format, or a stale file for a different region
+        }
+
+        final int minX = buffer.getInt(), minZ = buffer.getInt(), maxX = buffer.getInt(), maxZ = buffer.getInt();
+        final int size = (1 + maxX - minX) * (1 + maxZ - minZ);
+        final Region.Packed packed = new Region.Packed(size);
+
+        // Columns are stored in the same layout as the packed region, so they can be bulk copied
+        buffer.asLongBuffer().get(packed.present);
+        buffer.position(buffer.position() + packed.present.length * 8);
+        buffer.get(packed.distanceToOcean);
+        buffer.get(packed.distanceToEdge);
+        buffer.get(packed.baseOceanDepth);
+        buffer.get(packed.baseLandHeight);
+        buffer.get(packed.biomeAltitude);
+        buffer.asFloatBuffer().get(packed.rainfall);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asFloatBuffer().get(packed.temperature);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asIntBuffer().get(packed.biome);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asIntBuffer().get(packed.rock);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asShortBuffer().get(packed.flags);
+        buffer.position(buffer.position() + size * 2);
+
+        final int riverCount = buffer.getInt();
+        final List<RiverEdge> rivers = new ArrayList<>(riverCount);
+        final int[] drains = new int[riverCount];
+        for (int i = 0; i < riverCount; i++)
+        {
+            final River.Vertex source = readVertex(buffer);
+            final River.Vertex drain = readVertex(buffer);
+            final int width = buffer.getInt();
+            final double norm = buffer.getDouble();
+            final double[] segments = new double[buffer.getInt()];
+            for (int j = 0; j < segments.length; j++)
+            {
+                segments[j] = buffer.getDouble();
+            }
+
+            final RiverEdge edge = new RiverEdge(source, drain, new MidpointFractal(segments, norm));
+            edge.width = width;
+            rivers.add(edge);
+            drains[i] = buffer.getInt();
+        }
+
+        // Link drains after all edges are created, since they may refer forwards in the list
+        for (int i = 0; i < riverCount; i++)
+        {
+            rivers.get(i).linkToDrain(drains[i] == -1 ? null : rivers.get(drains[i]));
+        }
+
+        final Region region = new Region(cell);
+        region.setPacked(packed, minX, minZ, maxX, maxZ);
+        region.setRivers(rivers);
+        return region;
+    }
+
+    @VisibleForTesting
+    public static ByteBuffer write(Region region)
+    {
+        final Region.Packed packed = region.packed();
+        assert packed != null : "Region must be packed before saving";
+
+        final List<RiverEdge> rivers = region.rivers();
+        final int size = packed.size();
+
+        int bytes = HEADER_BYTES + packed.present.length * 8 + size * POINT_BYTES + 4;
+        for (RiverEdge edge : rivers)
+        {
+            bytes += 2 * VERTEX_BYTES + 4 + 8 + 4 + edge.fractal().segments.length * 8 + 4;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putDouble(region.noise());
+        buffer.putInt(region.minX());
+        buffer.putInt(region.minZ());
+        buffer.putInt(region.maxX());
+        buffer.putInt(region.maxZ());
+
+        buffer.asLongBuffer().put(packed.present);
+        buffer.position(buffer.position() + packed.present.length * 8);
+        buffer.put(packed.distanceToOcean);
+        buffer.put(packed.distanceToEdge);
+        buffer.put(packed.baseOceanDepth);
+        buffer.put(packed.baseLandHeight);
+        buffer.put(packed.biomeAltitude);
+        buffer.asFloatBuffer().put(packed.rainfall);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asFloatBuffer().put(packed.temperature);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asIntBuffer().put(packed.biome);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asIntBuffer().put(packed.rock);
+        buffer.position(buffer.position() + size * 4);
+        buffer.asShortBuffer().put(packed.flags);
+        buffer.position(buffer.position() + size * 2);
+
+        buffer.putInt(rivers.size());
+        for (RiverEdge edge : rivers)
+        {
+            writeVertex(buffer, edge.source());
+            writeVertex(buffer, edge.drain());
+            buffer.putInt(edge.width);
+            buffer.putDouble(edge.fractal().norm());
+            buffer.putInt(edge.fractal().segments.length);
+            for (double segment : edge.fractal().segments)
+            {
+                buffer.putDouble(segment);
+            }
+            buffer.putInt(edge.drainEdge() == null ? -1 : rivers.indexOf(edge.drainEdge()));
+        }
+
+        assert !buffer.hasRemaining() : "Region buffer size mismatch, " + buffer.remaining() + " bytes remaining";
+        return buffer.flip();
+    }
+
+    private static River.Vertex readVertex(ByteBuffer buffer)
+    {
+        return new River.Vertex(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getInt());
+    }
+
+    private static void writeVertex(ByteBuffer buffer, River.Vertex vertex)
+    {
+        buffer.putDouble(vertex.x());
+        buffer.putDouble(vertex.y());
+        buffer.putDouble(vertex.angle());
+        buffer.putDouble(vertex.length());
+        buffer.putInt(vertex.distance());
+    }
+}
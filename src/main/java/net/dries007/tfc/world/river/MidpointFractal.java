@@ -100,6 +100,22 @@ public class MidpointFractal
         this.norm = ENCOMPASSING_RANGES[bisections] * RiverHelpers.normInf(sourceX - drainX, sourceY - drainY);
     }
 
+    /**
+     * Reconstructs a fractal from previously computed {@code segments} and {@code norm}, i.e. when loading from disk.
+     */
+    public MidpointFractal(double[] segments, double norm)
+    {
+        Preconditions.checkArgument(segments.length >= 4 && segments.length % 2 == 0, "Segments must contain at least two (x, y) points");
+
+        this.segments = segments;
+        this.norm = norm;
+    }
+
+    public double norm()
+    {
+        return norm;
+    }
+
     /**
      * Checks if a given point (x, y) comes within a minimum {@code distance} of the bounding box of the fractal, using a heuristic to estimate
      * if this is remotely possible. This is an overestimation vs {@link #intersect(double, double, double)}, and is much faster to compute.
@@ -15,6 +15,7 @@ import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.Heightmap;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,6 +36,9 @@ public class SurfaceBuilderContext
     private final long seed;
     private final int seaLevel;
     private final int minY;
+    private final boolean sectionsAcquired;
+
+    @Nullable private final Heightmap oceanFloor, worldSurface;
 
     private final Set<BlockState> defaultBlockStates;
     private final Set<BlockState> defaultFluidStates;
@@ -50,6 +54,16 @@ public class SurfaceBuilderContext
     private boolean salty;
 
     public SurfaceBuilderContext(LevelAccessor level, ChunkAccess chunk, ChunkData chunkData, RandomSource random, long seed, RockLayerSettings rockLayerSettings, int seaLevel, int minY)
+    {
+        this(level, chunk, chunkData, random, seed, rockLayerSettings, seaLevel, minY, false);
+    }
+
+    /**
+     * @param sectionsAcquired If {@code true}, the caller already holds the lock on every section of {@code chunk}, for the lifetime of this context. Block
+     *                         states are then written directly to the sections, without locking, and the world generation heightmaps are updated manually, as in
+     *                         {@link net.dries007.tfc.world.ChunkNoiseFiller}. Section locks are not re-entrant, so going through the chunk would fail in this case.
+     */
+    public SurfaceBuilderContext(LevelAccessor level, ChunkAccess chunk, ChunkData chunkData, RandomSource random, long seed, RockLayerSettings rockLayerSettings, int seaLevel, int minY, boolean sectionsAcquired)
     {
         this.level = level;
         this.chunk = chunk;
@@ -59,6 +73,10 @@ public class SurfaceBuilderContext
         this.seed = seed;
         this.seaLevel = seaLevel;
         this.minY = minY;
+        this.sectionsAcquired = sectionsAcquired;
+
+        this.oceanFloor = sectionsAcquired ? chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.OCEAN_FLOOR_WG) : null;
+        this.worldSurface = sectionsAcquired ? chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.WORLD_SURFACE_WG) : null;
 
         this.defaultBlockStates = new ObjectOpenHashSet<>();
         this.defaultFluidStates = new ObjectOpenHashSet<>();
@@ -158,7 +176,27 @@ public class SurfaceBuilderContext
 
     public void setBlockState(int y, BlockState state)
     {
-        chunk.setBlockState(cursor.setY(y), state, false);
+        cursor.setY(y);
+        if (sectionsAcquired)
+        {
+            if (chunk.isOutsideBuildHeight(y))
+            {
+                return;
+            }
+
+            final int localX = cursor.getX() & 15, localZ = cursor.getZ() & 15;
+            final LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+
+            section.setBlockState(localX, y & 15, localZ, state, false);
+
+            assert oceanFloor != null && worldSurface != null;
+            oceanFloor.update(localX, y, localZ, state);
+            worldSurface.update(localX, y, localZ, state);
+        }
+        else
+        {
+            chunk.setBlockState(cursor, state, false);
+        }
     }
 
     public LevelAccessor level()
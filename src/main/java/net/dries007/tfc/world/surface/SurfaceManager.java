@@ -46,18 +46,28 @@ public final class SurfaceManager
     }
 
     public void buildSurface(LevelAccessor world, ChunkAccess chunk, RockLayerSettings rockLayerSettings, ChunkData chunkData, BiomeExtension[] accurateChunkBiomes, BiomeExtension[] accurateChunkBiomesNoRivers, double[] accurateChunkBiomeWeights, double[] slopeMap, RandomSource random, int seaLevel, int minY)
+    {
+        buildSurface(world, chunk, rockLayerSettings, chunkData, accurateChunkBiomes, accurateChunkBiomesNoRivers, accurateChunkBiomeWeights, slopeMap, random, seaLevel, minY, false);
+    }
+
+    /**
+     * Builds the surface of a chunk. Surface builders are stateless, so this is safe to call concurrently for different chunks.
+     *
+     * @param sectionsAcquired If {@code true}, the caller holds the lock on all sections of the chunk. See {@link SurfaceBuilderContext}.
+     */
+    public void buildSurface(LevelAccessor world, ChunkAccess chunk, RockLayerSettings rockLayerSettings, ChunkData chunkData, BiomeExtension[] accurateChunkBiomes, BiomeExtension[] accurateChunkBiomesNoRivers, double[] accurateChunkBiomeWeights, double[] slopeMap, RandomSource random, int seaLevel, int minY, boolean sectionsAcquired)
     {
         final boolean debugSlope = false;
 
         final ChunkPos chunkPos = chunk.getPos();
         final int blockX = chunkPos.getMinBlockX(), blockZ = chunkPos.getMinBlockZ();
 
-        if (debugSlope)
+        if (debugSlope && !sectionsAcquired)
         {
             slopeVisualization(chunk, slopeMap, blockX, blockZ);
         }
 
-        final SurfaceBuilderContext context = new SurfaceBuilderContext(world, chunk, chunkData, random, seed, rockLayerSettings, seaLevel, minY);
+        final SurfaceBuilderContext context = new SurfaceBuilderContext(world, chunk, chunkData, random, seed, rockLayerSettings, seaLevel, minY, sectionsAcquired);
         for (int x = 0; x < 16; ++x)
         {
             for (int z = 0; z < 16; ++z)
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.util.Map;
+import java.util.Random;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.BaseHeightCache;
+import net.dries007.tfc.world.BiomeWeights;
+import net.dries007.tfc.world.ChunkHeightFiller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BaseHeightCacheTests extends TestHelper
+{
+    @Test
+    public void testGetHeightsMatchesGetHeight()
+    {
+        final BaseHeightCache batch = new BaseHeightCache(BaseHeightCacheTests::createHeightFiller);
+        final BaseHeightCache single = new BaseHeightCache(BaseHeightCacheTests::createHeightFiller);
+
+        // Positions spread over a few chunks, including negative coordinates, in no particular order, with some repeated
+        final Random random = new Random(1234);
+        final int size = 2000;
+        final int[] blockX = new int[size], blockZ = new int[size], heights = new int[size];
+        for (int i = 0; i < size; i++)
+        {
+            blockX[i] = random.nextInt(64) - 32;
+            blockZ[i] = random.nextInt(64) - 32;
+        }
+
+        // Query some positions beforehand, so the batch sees a mix of sampled and unsampled columns
+        for (int i = 0; i < size; i += 7)
+        {
+            batch.getHeight(blockX[i], blockZ[i]);
+        }
+
+        batch.getHeights(blockX, blockZ, heights);
+        for (int i = 0; i < size; i++)
+        {
+            assertEquals(single.getHeight(blockX[i], blockZ[i]), heights[i], "Height at " + blockX[i] + ", " + blockZ[i]);
+        }
+    }
+
+    private static ChunkHeightFiller createHeightFiller(ChunkPos pos)
+    {
+        return new ChunkHeightFiller(new BiomeWeights[0], null, Map.of(), Map.of(), null, 63)
+        {
+            @Override
+            public double sampleHeight(int blockX, int blockZ)
+            {
+                return 63 + ((blockX * 31 + blockZ * 17) & 63);
+            }
+        };
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.common.capabilities.food.FoodTrait;
+import net.dries007.tfc.util.Helpers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FoodTraitTests extends TestHelper
+{
+    private static final FoodTrait CLIENT_ONLY = FoodTrait.register(Helpers.identifier("test_client_only"), new FoodTrait(1f, null));
+    private static final FoodTrait SHARED = FoodTrait.register(Helpers.identifier("test_shared"), new FoodTrait(1f, null));
+
+    @Test
+    public void testNetworkIdsFromServerWithDifferentTraits()
+    {
+        try
+        {
+            FoodTrait.setNetworkIds(List.of(Helpers.identifier("test_server_only"), Helpers.identifier("test_shared")));
+
+            assertEquals(-1, FoodTrait.getNetworkId(CLIENT_ONLY));
+            assertEquals(1, FoodTrait.getNetworkId(SHARED));
+            assertNull(FoodTrait.byNetworkId(0));
+            assertSame(SHARED, FoodTrait.byNetworkId(1));
+        }
+        finally
+        {
+            FoodTrait.resetNetworkIds();
+        }
+
+        assertSame(CLIENT_ONLY, FoodTrait.byNetworkId(FoodTrait.getNetworkId(CLIENT_ONLY)));
+        assertSame(SHARED, FoodTrait.byNetworkId(FoodTrait.getNetworkId(SHARED)));
+    }
+}
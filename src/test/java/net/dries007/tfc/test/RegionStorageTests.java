@@ -0,0 +1,95 @@
+/*
+ * Licensed under the EUPL, Version 1.2.
+ * You may obtain a copy of the Licence at:
+ * https://joinup.ec.europa.eu/collection/eupl/eupl-text-eupl-12
+ */
+
+package net.dries007.tfc.test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.junit.jupiter.api.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.noise.Cellular2D;
+import net.dries007.tfc.world.region.Region;
+import net.dries007.tfc.world.region.RegionGenerator;
+import net.dries007.tfc.world.region.RegionStorage;
+import net.dries007.tfc.world.region.RiverEdge;
+import net.dries007.tfc.world.settings.Settings;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionStorageTests extends TestHelper
+{
+    @Test
+    public void testWriteAndReadRegion()
+    {
+        final RegionGenerator generator = new RegionGenerator(new Settings(false, 0, 0, 0, 20_000, 0, 20_000, 0, null, 0.5f, 0.5f), new XoroshiroRandomSource(1798237841231L));
+        final Region region = generator.getOrCreateRegion(0, 0);
+        final Cellular2D.Cell cell = generator.sampleCell(0, 0);
+
+        final ByteBuffer buffer = RegionStorage.write(region);
+        final Region read = RegionStorage.read(buffer, cell);
+
+        assertNotNull(read);
+        assertFalse(buffer.hasRemaining());
+        assertEquals(region.minX(), read.minX());
+        assertEquals(region.minZ(), read.minZ());
+        assertEquals(region.maxX(), read.maxX());
+        assertEquals(region.maxZ(), read.maxZ());
+
+        for (int x = region.minX(); x <= region.maxX(); x++)
+        {
+            for (int z = region.minZ(); z <= region.maxZ(); z++)
+            {
+                final Region.Point expected = region.at(x, z), actual = read.at(x, z);
+                if (expected == null)
+                {
+                    assertNull(actual);
+                    continue;
+                }
+
+                assertNotNull(actual);
+                assertEquals(expected.distanceToOcean, actual.distanceToOcean);
+                assertEquals(expected.distanceToEdge, actual.distanceToEdge);
+                assertEquals(expected.baseOceanDepth, actual.baseOceanDepth);
+                assertEquals(expected.baseLandHeight, actual.baseLandHeight);
+                assertEquals(expected.biomeAltitude, actual.biomeAltitude);
+                assertEquals(expected.rainfall, actual.rainfall);
+                assertEquals(expected.temperature, actual.temperature);
+                assertEquals(expected.biome, actual.biome);
+                assertEquals(expected.rock, actual.rock);
+                assertEquals(expected.land(), actual.land());
+                assertEquals(expected.island(), actual.island());
+                assertEquals(expected.river(), actual.river());
+                assertEquals(expected.lake(), actual.lake());
+                assertEquals(expected.mountain(), actual.mountain());
+                assertEquals(expected.coastalMountain(), actual.coastalMountain());
+            }
+        }
+
+        final List<RiverEdge> expectedRivers = region.rivers(), actualRivers = read.rivers();
+        assertEquals(expectedRivers.size(), actualRivers.size());
+        for (int i = 0; i < expectedRivers.size(); i++)
+        {
+            final RiverEdge expected = expectedRivers.get(i), actual = actualRivers.get(i);
+            assertEquals(expected.source(), actual.source());
+            assertEquals(expected.drain(), actual.drain());
+            assertEquals(expected.width, actual.width);
+            assertEquals(expected.fractal().norm(), actual.fractal().norm());
+            assertArrayEquals(expected.fractal().segments, actual.fractal().segments);
+            assertEquals(expectedRivers.indexOf(expected.drainEdge()), actualRivers.indexOf(actual.drainEdge()));
+        }
+    }
+
+    @Test
+    public void testReadRegionForDifferentCell()
+    {
+        final RegionGenerator generator = new RegionGenerator(new Settings(false, 0, 0, 0, 20_000, 0, 20_000, 0, null, 0.5f, 0.5f), new XoroshiroRandomSource(1798237841231L));
+        final Region region = generator.getOrCreateRegion(0, 0);
+
+        assertNull(RegionStorage.read(RegionStorage.write(region), generator.sampleCell(1000, 1000)));
+    }
+}
@@ -6,6 +6,7 @@
 
 package net.dries007.tfc.test;
 
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -504,8 +505,62 @@ public class RotationNetworkTests
             """, mock.toString());
     }
 
+    @Test
+    public void testDerivedRotationsReferToSource()
+    {
+        final RotationMock mock = mock();
+
+        assertTrue(mock.addSource(0, 0, 0, SOUTH));
+        assertTrue(mock.add(0, 0, 1, AxleNode::new, NORTH, SOUTH));
+        assertTrue(mock.add(0, 0, 2, DerivedNode::new, NORTH, SOUTH));
+        assertTrue(mock.add(0, 0, 3, AxleNode::new, NORTH, SOUTH));
+        assertTrue(mock.add(0, 0, 4, DerivedNode::new, NORTH, SOUTH));
+
+        final Rotation.Tickable source = ((SourceNode) mock.sourceNodes.get(new BlockPos(0, 0, 0))).rotation();
+        source.tick();
+
+        for (int z = 1; z <= 4; z++)
+        {
+            final Node node = mock.manager.getNode(new BlockPos(0, 0, z));
+            assertNotNull(node);
+
+            final Rotation rotation = node.rotation();
+            assertNotNull(rotation);
+            assertSame(source, rotation.root());
+            assertEquals(source.angle(0.5f), rotation.angle(0.5f));
+            assertEquals(source.speed(), rotation.speed());
+        }
+        assertEquals(NORTH, mock.manager.getNode(new BlockPos(0, 0, 3)).rotation().direction());
+    }
+
+    @Test
+    public void testManyNetworks()
+    {
+        // Adding or updating a node should only need to consider the networks adjacent to it, so this should scale linearly in the number of networks
+        // Previously, this would query every network on each add, and take on the order of minutes.
+        final RotationMock mock = mock();
+        final int networks = 10_000;
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < networks; i++)
+            {
+                final int x = 2 * (i % 100), z = 4 * (i / 100);
+
+                assertTrue(mock.addSource(x, 0, z, NORTH, SOUTH));
+                assertTrue(mock.add(x, 0, z + 1, NORTH, SOUTH));
+                assertTrue(mock.add(x, 0, z + 2, NORTH, SOUTH));
+                assertTrue(mock.update(x, 0, z + 2, node -> {}));
+            }
+        });
+
+        // A node connecting two adjacent networks is still detected, and broken
+        assertFalse(mock.add(0, 0, 3, NORTH, SOUTH));
+
+        final Node node = mock.manager.getNode(new BlockPos(2 * 99, 0, 4 * 99 + 2));
+        assertNotNull(node);
+        assertEquals(networks - 1, node.network());
+    }
 
-    
     private RotationMock mock()
     {
         return new RotationMock(new RotationNetworkManager(), new HashMap<>());
@@ -571,6 +626,21 @@ public class RotationNetworkTests
         }
     }
 
+    static class DerivedNode extends MockNode
+    {
+        DerivedNode(BlockPos pos, EnumSet<Direction> connections)
+        {
+            super(pos, connections);
+        }
+
+        @Override
+        public Rotation rotation(Rotation sourceRotation, Direction sourceDirection, Direction exitDirection)
+        {
+            // This transfers the source rotation, with the opposite hand, like a gearbox along a single axis
+            return Rotation.of(sourceRotation, sourceRotation.direction().getOpposite());
+        }
+    }
+
     static class InvertNode extends MockNode
     {
         InvertNode(BlockPos pos, EnumSet<Direction> connections)